@@ -0,0 +1,43 @@
+-- Plan and timing for typeahead search at its worst case: the shortest accepted prefix (two
+-- characters) against a large catalog. Load a million events first, e.g. with
+--
+--   INSERT INTO events (id, venue_id, title, description, starts_at, ends_at, face_value_cents)
+--   SELECT gen_random_uuid(), '11111111-1111-1111-1111-111111111111', 'Jazz night ' || g,
+--          'Show ' || g, NOW() + g * INTERVAL '1 minute', NOW() + g * INTERVAL '1 minute' + INTERVAL '2 hour', 5000
+--   FROM generate_series(1, 1000000) g;
+--   ANALYZE events;
+--
+-- then run
+--
+--   psql "$DATABASE_URL" -v prefix="'ja:*'" -v candidates=500 -f scripts/search-plan.sql
+--
+-- The first plan is the capped query EventRepository.search runs. Expect either a Bitmap Index Scan
+-- on idx_events_search_vector or an Index Scan on idx_events_starts_at_id feeding a Limit of
+-- :candidates rows. ts_rank should then be evaluated on at most that many rows, and the Execution
+-- Time should be well under the 20 ms typeahead target. The second plan ranks every match the way
+-- the query did before the cap; compare its rows and time to see what the cap saves.
+
+\set ON_ERROR_STOP on
+
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT e.id, v.name, e.title, e.starts_at
+FROM (
+    SELECT m.id, m.venue_id, m.title, m.starts_at, m.search_vector
+    FROM events m
+    WHERE m.search_vector @@ to_tsquery('simple', :prefix)
+      AND m.starts_at >= NOW()
+    ORDER BY m.starts_at, m.id
+    LIMIT :candidates
+) e
+JOIN venues v ON v.id = e.venue_id
+ORDER BY ts_rank(e.search_vector, to_tsquery('simple', :prefix)) DESC, e.starts_at, e.id
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT e.id, v.name, e.title, e.starts_at
+FROM events e
+JOIN venues v ON v.id = e.venue_id
+WHERE e.search_vector @@ to_tsquery('simple', :prefix)
+  AND e.starts_at >= NOW()
+ORDER BY ts_rank(e.search_vector, to_tsquery('simple', :prefix)) DESC, e.starts_at, e.id
+LIMIT 10;
@@ -0,0 +1,40 @@
+-- Plans for the keyset ("seek") page queries, to confirm the row-value predicate is used as an
+-- index range condition rather than a filter. Pass the last row of the previous page:
+--
+--   psql "$DATABASE_URL" -v event_id=<uuid> -v after_created_at="'2026-05-01T10:15:30Z'" \
+--        -v after_id=<uuid> -v venue_id=<uuid> -v after_starts_at="'2026-06-01T20:00:00Z'" \
+--        -v after_event_id=<uuid> -f scripts/seek-plan.sql
+--
+-- Expect an Index Scan on idx_purchases_event_created_id, idx_events_starts_at_id and
+-- idx_events_venue_starts_at_id respectively, each with the row comparison in the Index Cond, e.g.
+--   Index Cond: ((event_id = ...) AND (ROW(created_at, id) > ROW(...)))
+-- and no Rows Removed by Filter from the seek predicate, so a deep page reads about as many index
+-- entries as page one. (The price and availability filters still remove rows after the seek.)
+
+\set ON_ERROR_STOP on
+
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT p.id, u.email, u.display_name, p.quantity, p.total_amount_cents, p.created_at
+FROM purchases p
+JOIN users u ON u.id = p.user_id
+WHERE p.event_id = :'event_id'
+  AND (p.created_at, p.id) > (:after_created_at::timestamptz, :'after_id'::uuid)
+ORDER BY p.created_at, p.id
+LIMIT 50;
+
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT e.id, v.name, e.title, e.starts_at, e.face_value_cents, e.tickets_total, e.tickets_sold
+FROM events e
+JOIN venues v ON v.id = e.venue_id
+WHERE (e.starts_at, e.id) > (:after_starts_at::timestamptz, :'after_event_id'::uuid)
+ORDER BY e.starts_at, e.id
+LIMIT 50;
+
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT e.id, v.name, e.title, e.starts_at, e.face_value_cents, e.tickets_total, e.tickets_sold
+FROM events e
+JOIN venues v ON v.id = e.venue_id
+WHERE e.venue_id = :'venue_id'
+  AND (e.starts_at, e.id) > (:after_starts_at::timestamptz, :'after_event_id'::uuid)
+ORDER BY e.starts_at, e.id
+LIMIT 50;
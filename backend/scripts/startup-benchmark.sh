@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# Measures time from JVM launch to the first successful ticket purchase.
+#
+#   scripts/startup-benchmark.sh <plain|fast> <extracted-jar-dir> <jar-name>
+#
+# Needs Postgres reachable with the usual SPRING_DATASOURCE_* settings. A setup run (not timed)
+# makes sure the benchmark event has tickets; each timed run then logs in and buys one ticket.
+set -euo pipefail
+
+MODE=${1:-plain}
+DIR=${2:-build/fast-start}
+JAR=${3:-$(cd "$DIR" && ls ./*.jar | head -n 1)}
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+JAVA_BIN=${JAVA_BIN:-java}
+BASE="http://localhost:${PORT}/api"
+
+case "$MODE" in
+  plain) JAVA_OPTS=() ;;
+  fast)
+    [[ -f "$DIR/app.aot" ]] || { echo "missing $DIR/app.aot - run ./gradlew trainAotCache first" >&2; exit 1; }
+    JAVA_OPTS=(-XX:AOTCache=app.aot -Dspring.aot.enabled=true -Dspring.profiles.active=fast-start) ;;
+  *) echo "mode must be plain or fast" >&2; exit 1 ;;
+esac
+
+now_ms() { date +%s%3N; }
+
+json_field() { sed -n "s/.*\"$1\":\"\([^\"]*\)\".*/\1/p" | head -n 1; }
+
+start_app() {
+  (cd "$DIR" && exec "$JAVA_BIN" "${JAVA_OPTS[@]}" -jar "$JAR" --server.port="$PORT" --management.server.port=0) > "$DIR/benchmark-$1.log" 2>&1 &
+  APP_PID=$!
+}
+
+stop_app() {
+  kill "$APP_PID" 2>/dev/null || true
+  wait "$APP_PID" 2>/dev/null || true
+}
+trap stop_app EXIT
+
+login() {
+  curl -sf -X POST "$BASE/auth/mock" -H 'Content-Type: application/json' \
+    -d "{\"email\":\"$1\",\"displayName\":\"Startup Benchmark\",\"roles\":$2}" | json_field token
+}
+
+wait_for_login() {
+  until TOKEN=$(login "$1" "$2" 2>/dev/null) && [[ -n "$TOKEN" ]]; do
+    kill -0 "$APP_PID" 2>/dev/null || { echo "application exited, see $DIR/benchmark-*.log" >&2; exit 1; }
+    sleep 0.05
+  done
+}
+
+start_app setup
+wait_for_login startup-admin@example.com '["ADMIN"]'
+EVENT_ID=$(curl -sf "$BASE/events" -H "Authorization: Bearer $TOKEN" | json_field id)
+curl -sf -X POST "$BASE/events/$EVENT_ID/tickets:generate" -H "Authorization: Bearer $TOKEN" \
+  -H 'Content-Type: application/json' -d "{\"quantity\":$((RUNS * 2))}" > /dev/null
+stop_app
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+  started=$(now_ms)
+  start_app "$run"
+  wait_for_login startup-buyer@example.com '["USER"]'
+  until curl -sf -X POST "$BASE/events/$EVENT_ID/purchase" -H "Authorization: Bearer $TOKEN" \
+      -H 'Content-Type: application/json' -H "Idempotency-Key: startup-$MODE-$run-$started" \
+      -d '{"quantity":1,"paymentToken":"tok_benchmark"}' > /dev/null; do
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - started ))
+  results+=("$elapsed")
+  echo "run $run: first purchase after ${elapsed} ms"
+  stop_app
+done
+
+sorted=$(printf '%s\n' "${results[@]}" | sort -n)
+median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+echo "mode=$MODE runs=$RUNS median_ms=$median min_ms=$(echo "$sorted" | head -n 1) max_ms=$(echo "$sorted" | tail -n 1)"
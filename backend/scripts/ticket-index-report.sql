@@ -0,0 +1,36 @@
+-- Index sizes on tickets and the plan and timing of the reservation scan, for comparing the schema
+-- before and after V8 (status as smallint with partial indexes). Works against either version:
+--
+--   psql "$DATABASE_URL" -v event_id=<uuid> -v quantity=4 -f scripts/ticket-index-report.sql
+--
+-- The reservation query runs inside a transaction that is rolled back, so no rows stay locked.
+
+\set ON_ERROR_STOP on
+
+SELECT CASE WHEN data_type = 'smallint' THEN '0' ELSE '''AVAILABLE''' END AS available
+FROM information_schema.columns
+WHERE table_name = 'tickets' AND column_name = 'status' \gset
+
+SELECT status, count(*) AS tickets
+FROM tickets
+GROUP BY status
+ORDER BY status;
+
+SELECT c.relname AS relation,
+       pg_size_pretty(pg_relation_size(c.oid)) AS size,
+       pg_relation_size(c.oid) AS bytes
+FROM pg_class c
+WHERE c.oid = 'tickets'::regclass
+   OR c.oid IN (SELECT indexrelid FROM pg_index WHERE indrelid = 'tickets'::regclass)
+ORDER BY c.relname;
+
+BEGIN;
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id
+FROM tickets
+WHERE event_id = :'event_id'
+  AND status = :available
+ORDER BY created_at
+LIMIT :quantity
+FOR UPDATE;
+ROLLBACK;
@@ -0,0 +1,40 @@
+package com.tickets.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickets.backend.dto.auth.TokenPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of bearer token verification. Run with {@code ./gradlew jmh}; the gc profiler
+ * reports {@code gc.alloc.rate.norm}, the bytes allocated per verified request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthTokenBenchmark {
+
+    private AuthTokenService service;
+    private String header;
+
+    @Setup
+    public void setUp() {
+        service = new AuthTokenService(new ObjectMapper(), "benchmark-secret");
+        header = "Bearer " + service.generateToken(
+            new TokenPayload("user@example.com", "User", List.of("ROLE_USER", "ROLE_MANAGER")));
+    }
+
+    @Benchmark
+    public Authentication verifyHeader() {
+        return service.verify(header, 7, header.length()).newAuthentication();
+    }
+}
@@ -1,7 +1,9 @@
 package com.tickets.backend.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -28,7 +30,12 @@ public class AppSecurityConfig {
         http.csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(authorize -> authorize
-                .requestMatchers("/actuator/health", "/api/auth/**").permitAll()
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // Actuator is served on management.server.port, which is not published outside the cluster.
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/prometheus", "/api/auth/**").permitAll()
+                // EventSource cannot send an Authorization header; the stream only carries ticket counts.
+                .requestMatchers(HttpMethod.GET, "/api/events/*/availability").permitAll()
+                .requestMatchers("/actuator/contention", "/actuator/flightrecording").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -1,26 +1,23 @@
 package com.tickets.backend.config;
 
-import com.tickets.backend.dto.auth.TokenPayload;
 import com.tickets.backend.service.AuthTokenService;
+import com.tickets.backend.service.model.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.Optional;
 
 @Component
 public class AuthTokenAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthTokenService tokenService;
 
     public AuthTokenAuthenticationFilter(AuthTokenService tokenService) {
@@ -32,16 +29,10 @@ public class AuthTokenAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
-            Optional<String> tokenOptional = resolveBearerToken(request);
-            if (tokenOptional.isPresent()) {
-                TokenPayload payload = tokenService.parseToken(tokenOptional.get());
-                List<SimpleGrantedAuthority> authorities = payload.roles().stream()
-                    .map(SimpleGrantedAuthority::new)
-                    .toList();
-                UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(payload.email(), null, authorities);
-                authentication.setDetails(payload);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (header != null && header.startsWith(BEARER_PREFIX)) {
+                VerifiedToken token = tokenService.verify(header, BEARER_PREFIX.length(), header.length());
+                SecurityContextHolder.getContext().setAuthentication(token.newAuthentication());
             }
             filterChain.doFilter(request, response);
         } catch (IllegalArgumentException ex) {
@@ -51,12 +42,4 @@ public class AuthTokenAuthenticationFilter extends OncePerRequestFilter {
             response.getWriter().write("{\"error\":\"invalid_token\",\"message\":\"" + ex.getMessage() + "\"}");
         }
     }
-
-    private Optional<String> resolveBearerToken(HttpServletRequest request) {
-        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if (header == null || !header.startsWith("Bearer ")) {
-            return Optional.empty();
-        }
-        return Optional.of(header.substring(7));
-    }
 }
@@ -0,0 +1,93 @@
+package com.tickets.backend.config;
+
+import com.tickets.backend.dto.diagnostics.ContendedEvent;
+import com.tickets.backend.dto.diagnostics.ContentionReport;
+import com.tickets.backend.dto.diagnostics.PoolStats;
+import com.tickets.backend.model.Event;
+import com.tickets.backend.service.EventService;
+import com.tickets.backend.service.LockContentionTracker;
+import com.tickets.backend.service.LockWaitSampler;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@code /actuator/contention}: connection pool occupancy (the primary pool and, when replica
+ * routing is on, each replica pool), sessions currently blocked on locks and the events whose ticket
+ * rows have cost reservations the most lock wait recently.
+ */
+@Component
+@Lazy
+@Endpoint(id = "contention")
+public class ContentionEndpoint {
+
+    static final int TOP_EVENTS = 10;
+
+    private final ObjectProvider<HikariDataSource> pools;
+    private final ObjectProvider<ReplicaDataSource> replicaDataSource;
+    private final LockWaitSampler lockWaitSampler;
+    private final LockContentionTracker contentionTracker;
+    private final EventService eventService;
+
+    public ContentionEndpoint(ObjectProvider<HikariDataSource> pools,
+                              ObjectProvider<ReplicaDataSource> replicaDataSource,
+                              LockWaitSampler lockWaitSampler,
+                              LockContentionTracker contentionTracker,
+                              EventService eventService) {
+        this.pools = pools;
+        this.replicaDataSource = replicaDataSource;
+        this.lockWaitSampler = lockWaitSampler;
+        this.contentionTracker = contentionTracker;
+        this.eventService = eventService;
+    }
+
+    @ReadOperation
+    public ContentionReport report() {
+        return new ContentionReport(poolStats(), lockWaitSampler.currentWaiters(), topEvents());
+    }
+
+    private List<PoolStats> poolStats() {
+        // Replica pools are owned by ReplicaDataSource rather than registered as beans.
+        Stream<HikariDataSource> replicaPools = replicaDataSource.orderedStream()
+            .flatMap(routing -> routing.replicas().stream())
+            .filter(HikariDataSource.class::isInstance)
+            .map(HikariDataSource.class::cast);
+        return Stream.concat(pools.orderedStream(), replicaPools)
+            .filter(pool -> pool.getHikariPoolMXBean() != null)
+            .map(pool -> {
+                HikariPoolMXBean mx = pool.getHikariPoolMXBean();
+                return new PoolStats(pool.getPoolName(), mx.getActiveConnections(), mx.getIdleConnections(),
+                    mx.getThreadsAwaitingConnection(), mx.getTotalConnections(), pool.getMaximumPoolSize());
+            })
+            .toList();
+    }
+
+    private List<ContendedEvent> topEvents() {
+        List<LockContentionTracker.Entry> top = contentionTracker.top(TOP_EVENTS);
+        if (top.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> eventIds = top.stream().map(LockContentionTracker.Entry::eventId).toList();
+        Map<UUID, String> titles = eventService.getAllById(eventIds).stream()
+            .collect(Collectors.toMap(Event::getId, Event::getTitle));
+        return top.stream()
+            .map(entry -> new ContendedEvent(
+                entry.eventId(),
+                titles.get(entry.eventId()),
+                entry.acquisitions(),
+                Duration.ofNanos(entry.totalWaitNanos()).toMillis(),
+                Duration.ofNanos(entry.maxWaitNanos()).toMillis()))
+            .toList();
+    }
+}
@@ -0,0 +1,132 @@
+package com.tickets.backend.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * {@code /actuator/flightrecording}: POST starts a JFR recording with the {@code profile} settings
+ * (custom {@code tickets.*} events included), DELETE stops it and GET downloads what has been
+ * recorded so far. A recording always ends after {@code profiling.max-duration} and keeps at most
+ * {@code profiling.max-size} on disk, so a forgotten recording cannot fill the volume.
+ */
+@Component
+@Lazy
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+
+    private Recording recording;
+    private Path lastDump;
+
+    public FlightRecordingEndpoint(@Value("${profiling.max-duration:PT10M}") Duration maxDuration,
+                                   @Value("${profiling.max-size:256MB}") DataSize maxSize) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<RecordingStatus> start(@OptionalParameter Long durationSeconds) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(status(), HttpStatus.CONFLICT.value());
+        }
+        Duration duration = durationSeconds == null
+            ? maxDuration
+            : Duration.ofSeconds(Math.clamp(durationSeconds, 1, maxDuration.toSeconds()));
+        closeRecording();
+        try {
+            Recording started = new Recording(Configuration.getConfiguration("profile"));
+            started.setName("tickets-" + Instant.now());
+            started.setToDisk(true);
+            started.setDuration(duration);
+            started.setMaxSize(maxSize.toBytes());
+            started.start();
+            recording = started;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Failed to start flight recording", e);
+        }
+        return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+    }
+
+    @DeleteOperation
+    public synchronized RecordingStatus stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return status();
+    }
+
+    @ReadOperation
+    public synchronized WebEndpointResponse<Resource> download() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            deleteLastDump();
+            lastDump = Files.createTempFile("tickets-", ".jfr");
+            recording.dump(lastDump);
+            return new WebEndpointResponse<>(new FileSystemResource(lastDump), WebEndpointResponse.STATUS_OK);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to dump flight recording", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeRecording();
+        deleteLastDump();
+    }
+
+    private RecordingStatus status() {
+        return new RecordingStatus(
+            recording.getName(),
+            recording.getState().name(),
+            recording.getStartTime(),
+            recording.getDuration(),
+            recording.getMaxSize());
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteLastDump() {
+        if (lastDump != null) {
+            try {
+                Files.deleteIfExists(lastDump);
+            } catch (IOException ignored) {
+                // a leftover temp file is harmless; the next dump uses a new name
+            }
+            lastDump = null;
+        }
+    }
+
+    public record RecordingStatus(String name, String state, Instant startedAt, Duration duration, long maxSizeBytes) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.tickets.backend.config;
+
+import com.tickets.backend.service.AvailabilityStream;
+import com.tickets.backend.service.PurchaseGate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * First thing to stop on shutdown, ahead of the web server's own graceful phase: the node reports
+ * itself not ready, stops admitting purchases (callers get 503 and retry on another node), waits up
+ * to {@code shutdown.purchase-drain-timeout} for purchases already inside their transaction, then
+ * completes availability streams so their long-lived requests do not hold up the server drain.
+ * The async log queue is flushed when logging shuts down after the context.
+ */
+@Component
+public class GracefulDrain implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GracefulDrain.class);
+
+    private final PurchaseGate purchaseGate;
+    private final AvailabilityStream availabilityStream;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration drainTimeout;
+    private volatile boolean running;
+
+    public GracefulDrain(PurchaseGate purchaseGate,
+                         AvailabilityStream availabilityStream,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${shutdown.purchase-drain-timeout:PT20S}") Duration drainTimeout) {
+        this.purchaseGate = purchaseGate;
+        this.availabilityStream = availabilityStream;
+        this.eventPublisher = eventPublisher;
+        this.drainTimeout = drainTimeout;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        purchaseGate.close();
+        long started = System.nanoTime();
+        try {
+            if (!purchaseGate.awaitDrained(drainTimeout)) {
+                log.warn("{} purchases still in flight after {}; continuing shutdown", purchaseGate.inFlight(), drainTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while draining purchases; {} still in flight", purchaseGate.inFlight());
+        }
+        availabilityStream.close();
+        log.info("Drained purchases in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+}
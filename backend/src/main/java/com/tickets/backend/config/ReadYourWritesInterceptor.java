@@ -0,0 +1,66 @@
+package com.tickets.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pins a user's reads to the primary for {@code replica.read-your-writes-window} after any
+ * successful write, so a purchase shows up on the very next page load whatever the replica lag.
+ * Writes are remembered per node, so the window only covers requests that reach the same instance.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaDataSource replicaDataSource;
+    private final Duration window;
+    private final Clock clock;
+    private final ConcurrentMap<String, Instant> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesInterceptor(ReplicaDataSource replicaDataSource, Duration window, Clock clock) {
+        this.replicaDataSource = replicaDataSource;
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String user = request.getRemoteUser();
+        if (user != null) {
+            Instant until = pinnedUntil.get(user);
+            if (until != null && clock.instant().isBefore(until)) {
+                replicaDataSource.pinToPrimary();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        replicaDataSource.release();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        replicaDataSource.release();
+        String user = request.getRemoteUser();
+        if (user != null && ex == null && response.getStatus() < 400 && !SAFE_METHODS.contains(request.getMethod())) {
+            pinnedUntil.put(user, clock.instant().plus(window));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${replica.read-your-writes-window:PT5S}")
+    public void evictExpired() {
+        Instant now = clock.instant();
+        pinnedUntil.values().removeIf(until -> !now.isBefore(until));
+    }
+}
@@ -0,0 +1,77 @@
+package com.tickets.backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Logback turbo filter that lets each logger emit the same WARN or ERROR message (by format string)
+ * at most {@code maxRepeats} times per {@code intervalMillis}; further repeats in that window are
+ * dropped before an event is even created. Lower levels are never touched, and the check runs
+ * before anything else for them, so it costs one comparison on the debug/info path.
+ */
+public class RepeatedWarningFilter extends TurboFilter {
+
+    private final ConcurrentMap<Key, Window> windows = new ConcurrentHashMap<>();
+
+    private int maxRepeats = 5;
+    private long intervalNanos = TimeUnit.MINUTES.toNanos(1);
+    private int cacheSize = 1024;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.levelInt < Level.WARN_INT || format == null) {
+            return FilterReply.NEUTRAL;
+        }
+        if (windows.size() >= cacheSize) {
+            windows.clear();
+        }
+        long now = System.nanoTime();
+        Window window = windows.computeIfAbsent(new Key(logger.getName(), format), key -> new Window(now));
+        return window.admit(now, intervalNanos, maxRepeats) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setMaxRepeats(int maxRepeats) {
+        this.maxRepeats = maxRepeats;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    private record Key(String logger, String format) {
+    }
+
+    private static final class Window {
+
+        private volatile long startedAt;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private boolean admit(long now, long intervalNanos, int maxRepeats) {
+            if (now - startedAt >= intervalNanos) {
+                synchronized (this) {
+                    if (now - startedAt >= intervalNanos) {
+                        startedAt = now;
+                        count.set(0);
+                    }
+                }
+            }
+            return count.incrementAndGet() <= maxRepeats;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.tickets.backend.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out connections for read-only transactions. Each checkout takes the next replica whose last
+ * measured lag is within {@code replica.max-lag}; when none qualifies, a replica refuses the
+ * connection, or the current thread is pinned for read-your-writes, the primary serves the read.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * Replication lag in milliseconds, or null when it cannot be trusted. A server that is not in
+     * recovery is its own primary. A replica that has replayed everything it received is current
+     * only while its WAL receiver is streaming; otherwise "caught up" just means nothing arrived,
+     * so the age of the last replayed commit is reported instead. A replica that never received
+     * WAL (null receive LSN) or never replayed a commit is stale. The probe user needs
+     * {@code pg_read_all_stats} to see the receiver status; without it every check takes the
+     * conservative branch.
+     */
+    static final String LAG_QUERY = """
+        select case
+                 when not pg_is_in_recovery() then 0
+                 when pg_last_wal_receive_lsn() is null then null
+                 when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                      and exists (select 1 from pg_stat_wal_receiver where status = 'streaming') then 0
+                 else extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000
+               end
+        """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final int probeTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ThreadLocal<Boolean> pinnedToPrimary = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * @param probeTimeout query timeout for the lag probe; the replica pools should use the same
+     *                     connection timeout so an unreachable replica cannot hold the scheduler
+     */
+    public ReplicaDataSource(DataSource primary, List<? extends DataSource> replicas, Duration maxLag, Duration probeTimeout) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        this.probeTimeoutSeconds = (int) Math.max(1, probeTimeout.toSeconds());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    public void pinToPrimary() {
+        pinnedToPrimary.set(true);
+    }
+
+    public void release() {
+        pinnedToPrimary.remove();
+    }
+
+    public List<DataSource> replicas() {
+        return replicas.stream().map(replica -> replica.dataSource).toList();
+    }
+
+    public int freshReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.fresh).count();
+    }
+
+    @Scheduled(fixedDelayString = "${replica.freshness-check-interval:PT1S}")
+    public void checkFreshness() {
+        for (Replica replica : replicas) {
+            Duration lag = measureLag(replica.dataSource);
+            replica.fresh = lag != null && lag.compareTo(maxLag) <= 0;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection connect(ConnectionOpener opener) throws SQLException {
+        Replica replica = pick();
+        if (replica == null) {
+            return opener.open(primary);
+        }
+        try {
+            return opener.open(replica.dataSource);
+        } catch (SQLException e) {
+            replica.fresh = false;
+            return opener.open(primary);
+        }
+    }
+
+    private Replica pick() {
+        if (pinnedToPrimary.get() || replicas.isEmpty()) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.fresh) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Duration measureLag(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(probeTimeoutSeconds);
+            try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                if (!rs.next()) {
+                    return null;
+                }
+                double millis = rs.getDouble(1);
+                return rs.wasNull() ? null : Duration.ofMillis((long) millis);
+            }
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean fresh;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
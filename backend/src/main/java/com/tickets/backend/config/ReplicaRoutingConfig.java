@@ -0,0 +1,97 @@
+package com.tickets.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes {@code @Transactional(readOnly = true)} work to read replicas when {@code replica.enabled}
+ * is set. The lazy proxy defers choosing a physical connection until the first statement, by which
+ * point the transaction manager has marked it read-only, so read-only transactions are served by
+ * {@link ReplicaDataSource} and everything else by the primary pool.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                               DataSourceProperties properties,
+                                               @Value("${replica.urls}") List<String> urls,
+                                               @Value("${replica.username:${spring.datasource.username}}") String username,
+                                               @Value("${replica.password:${spring.datasource.password}}") String password,
+                                               @Value("${replica.max-pool-size:10}") int maxPoolSize,
+                                               @Value("${replica.max-lag:PT2S}") Duration maxLag,
+                                               @Value("${replica.connection-timeout:PT1S}") Duration connectionTimeout,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        if (urls.stream().allMatch(String::isBlank)) {
+            throw new IllegalStateException("replica.urls must list at least one replica when replica.enabled is set");
+        }
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.strip());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(maxPoolSize);
+            replica.setReadOnly(true);
+            replica.setInitializationFailTimeout(-1);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReplicaDataSource(primaryDataSource, replicas, maxLag, connectionTimeout);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor(ReplicaDataSource replicaDataSource,
+                                                               @Value("${replica.read-your-writes-window:PT5S}") Duration window) {
+        return new ReadYourWritesInterceptor(replicaDataSource, window, Clock.systemUTC());
+    }
+
+    @Bean
+    public WebMvcConfigurer readYourWritesConfigurer(ReadYourWritesInterceptor interceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.tickets.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Attaches the caller, event id and idempotency key to the logging MDC for the duration of a
+ * request, and writes one structured access-log line per request to {@value #ACCESS_LOGGER}. The
+ * event id is sliced from {@code /api/events/{id}} paths without parsing it, and nothing is put in
+ * the MDC that the request does not carry, so the per-request cost is a handful of map writes.
+ */
+@Component
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    public static final String ACCESS_LOGGER = "com.tickets.backend.access";
+    public static final String USER = "user";
+    public static final String EVENT_ID = "eventId";
+    public static final String IDEMPOTENCY_KEY = "idempotencyKey";
+
+    static final String IDEMPOTENCY_HEADER = "Idempotency-Key";
+
+    private static final Logger access = LoggerFactory.getLogger(ACCESS_LOGGER);
+    private static final String EVENTS_PREFIX = "/api/events/";
+    private static final int UUID_LENGTH = 36;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            MDC.put(USER, authentication.getName());
+        }
+        String eventId = eventId(request.getRequestURI());
+        if (eventId != null) {
+            MDC.put(EVENT_ID, eventId);
+        }
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_HEADER);
+        if (idempotencyKey != null) {
+            MDC.put(IDEMPOTENCY_KEY, idempotencyKey);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (access.isInfoEnabled()) {
+                Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                access.atInfo()
+                    .addKeyValue("method", request.getMethod())
+                    .addKeyValue("route", route != null ? route : "UNKNOWN")
+                    .addKeyValue("status", response.getStatus())
+                    .addKeyValue("durationMs", (System.nanoTime() - started) / 1_000_000)
+                    .log("request completed");
+            }
+            MDC.remove(USER);
+            MDC.remove(EVENT_ID);
+            MDC.remove(IDEMPOTENCY_KEY);
+        }
+    }
+
+    static String eventId(String uri) {
+        if (uri == null || !uri.startsWith(EVENTS_PREFIX) || uri.length() < EVENTS_PREFIX.length() + UUID_LENGTH) {
+            return null;
+        }
+        int end = EVENTS_PREFIX.length() + UUID_LENGTH;
+        if (uri.length() > end && uri.charAt(end) != '/' && uri.charAt(end) != ':') {
+            return null;
+        }
+        return uri.substring(EVENTS_PREFIX.length(), end);
+    }
+}
@@ -0,0 +1,237 @@
+package com.tickets.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tickets.backend.dto.auth.TokenPayload;
+import com.tickets.backend.dto.diagnostics.WarmupReport;
+import com.tickets.backend.dto.diagnostics.WarmupStepResult;
+import com.tickets.backend.dto.event.EventResponse;
+import com.tickets.backend.repository.RoleRepository;
+import com.tickets.backend.service.AuthTokenService;
+import com.tickets.backend.service.EventCatalog;
+import com.tickets.backend.service.VenueService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms a freshly started node before it takes traffic: opens each pool's minimum connections,
+ * fills the role, venue and event catalog read paths, and drives token verification, event JSON
+ * serialization and one query per entity often enough for the JIT to compile them. Boot only
+ * reports readiness as {@code ACCEPTING_TRAFFIC} after application runners return, so the
+ * readiness probe stays red until this finishes. A failed step is recorded and skipped; it never
+ * blocks startup. The last report is published under {@code /actuator/info} and each step as a
+ * {@code startup.warmup} timer.
+ */
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup implements ApplicationRunner, InfoContributor {
+
+    static final String WARMUP_TIMER = "startup.warmup";
+    static final List<String> ROLE_NAMES = List.of("ROLE_USER", "ROLE_MANAGER", "ROLE_ADMIN");
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ObjectProvider<HikariDataSource> pools;
+    private final RoleRepository roleRepository;
+    private final VenueService venueService;
+    private final EventCatalog eventCatalog;
+    private final AuthTokenService authTokenService;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry registry;
+    private final int iterations;
+
+    private volatile WarmupReport report;
+
+    public StartupWarmup(ObjectProvider<HikariDataSource> pools,
+                         RoleRepository roleRepository,
+                         VenueService venueService,
+                         EventCatalog eventCatalog,
+                         AuthTokenService authTokenService,
+                         ObjectMapper objectMapper,
+                         EntityManagerFactory entityManagerFactory,
+                         MeterRegistry registry,
+                         @Value("${warmup.iterations:2000}") int iterations) {
+        this.pools = pools;
+        this.roleRepository = roleRepository;
+        this.venueService = venueService;
+        this.eventCatalog = eventCatalog;
+        this.authTokenService = authTokenService;
+        this.objectMapper = objectMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.registry = registry;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    public WarmupReport warmUp() {
+        long started = System.nanoTime();
+        List<WarmupStepResult> steps = new ArrayList<>();
+        steps.add(step("connection-pool", this::openMinimumConnections));
+        steps.add(step("roles", this::loadRoles));
+        steps.add(step("venues", () -> venueService.findAll().size() + " venues"));
+        steps.add(step("event-catalog", () -> eventCatalog.snapshot().events().size() + " events"));
+        steps.add(step("auth-token", this::verifyTokens));
+        steps.add(step("event-json", this::serializeEvents));
+        steps.add(step("jpa-metamodel", this::queryEntities));
+        WarmupReport finished = new WarmupReport(Instant.now(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), List.copyOf(steps));
+        report = finished;
+        log.info("Warm-up finished in {} ms: {}", finished.durationMillis(), steps);
+        return finished;
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        WarmupReport current = report;
+        if (current != null) {
+            builder.withDetail("warmup", current);
+        }
+    }
+
+    private WarmupStepResult step(String name, Callable<String> action) {
+        long started = System.nanoTime();
+        String outcome = "success";
+        String detail;
+        try {
+            detail = action.call();
+        } catch (Exception e) {
+            outcome = "error";
+            detail = e.toString();
+            log.warn("Warm-up step {} failed; continuing", name, e);
+        }
+        long elapsed = System.nanoTime() - started;
+        Timer.builder(WARMUP_TIMER)
+            .description("Time spent in one startup warm-up step")
+            .tag("step", name)
+            .tag("outcome", outcome)
+            .register(registry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        return new WarmupStepResult(name, outcome, TimeUnit.NANOSECONDS.toMillis(elapsed), detail);
+    }
+
+    /**
+     * Borrows each pool's minimum idle count at once, which forces that many physical connections
+     * open instead of leaving Hikari to fill the pool in the background under first traffic.
+     */
+    private String openMinimumConnections() throws Exception {
+        List<String> opened = new ArrayList<>();
+        for (HikariDataSource pool : pools.orderedStream().toList()) {
+            int target = Math.max(1, Math.min(pool.getMinimumIdle(), pool.getMaximumPoolSize()));
+            List<Connection> held = new ArrayList<>(target);
+            try {
+                for (int i = 0; i < target; i++) {
+                    held.add(pool.getConnection());
+                }
+            } finally {
+                for (Connection connection : held) {
+                    connection.close();
+                }
+            }
+            opened.add(pool.getPoolName() + "=" + target);
+        }
+        return "opened " + opened;
+    }
+
+    private String loadRoles() {
+        long found = ROLE_NAMES.stream()
+            .filter(name -> roleRepository.findByNameIgnoreCase(name).isPresent())
+            .count();
+        return found + " of " + ROLE_NAMES.size() + " roles";
+    }
+
+    /**
+     * Mostly verifies the same few tokens, which is the cached path every authenticated request
+     * takes; every eighth round also issues and verifies a new one so the parse path is compiled too.
+     */
+    private String verifyTokens() {
+        List<String> headers = new ArrayList<>();
+        for (int i = 0; i < ROLE_NAMES.size(); i++) {
+            String token = authTokenService.generateToken(
+                new TokenPayload("warmup@tickets.local", "Warm-up", ROLE_NAMES.subList(0, i + 1)));
+            headers.add(BEARER_PREFIX + token);
+        }
+        int verified = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (String header : headers) {
+                authTokenService.verify(header, BEARER_PREFIX.length(), header.length());
+                verified++;
+            }
+            if (i % 8 == 0) {
+                authTokenService.parseToken(authTokenService.generateToken(
+                    new TokenPayload("warmup-" + i + "@tickets.local", "Warm-up", List.of("ROLE_USER"))));
+                verified++;
+            }
+        }
+        return verified + " verifications";
+    }
+
+    private String serializeEvents() throws Exception {
+        List<EventResponse> events = new ArrayList<>(eventCatalog.snapshot().events());
+        if (events.isEmpty()) {
+            OffsetDateTime startsAt = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1);
+            events.add(new EventResponse(UUID.randomUUID(), UUID.randomUUID(), "Warm-up Venue", "Warm-up Event",
+                "Synthetic event used to warm JSON serialization", startsAt, startsAt.plusHours(3), 5000, 100, 0));
+        }
+        ObjectWriter responseWriter = objectMapper.writer();
+        ObjectWriter catalogWriter = objectMapper.writer().without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        long bytes = 0;
+        for (int i = 0; i < iterations; i++) {
+            bytes += responseWriter.writeValueAsBytes(events.get(i % events.size())).length;
+            if (i % 16 == 0) {
+                bytes += catalogWriter.writeValueAsBytes(events).length;
+            }
+        }
+        return iterations + " serializations, " + bytes + " bytes";
+    }
+
+    /**
+     * Walks the metamodel and runs a one-row query per entity, which compiles each query plan and
+     * initializes the entity loaders before the first real request needs them.
+     */
+    private String queryEntities() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            int queried = 0;
+            for (EntityType<?> entity : entityManager.getMetamodel().getEntities()) {
+                entityManager.createQuery("select e from " + entity.getName() + " e", entity.getJavaType())
+                    .setMaxResults(1)
+                    .getResultList();
+                queried++;
+            }
+            return queried + " entities";
+        } finally {
+            entityManager.close();
+        }
+    }
+}
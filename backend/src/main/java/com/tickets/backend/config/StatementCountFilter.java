@@ -0,0 +1,84 @@
+package com.tickets.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Records how many SQL statements each request issued as the {@code http.server.requests.statements}
+ * summary, tagged by method and route. With {@code diagnostics.statement-count-header} enabled the
+ * count is also returned in {@value #HEADER}; that buffers the response body so the header can
+ * still be set after the handler ran, so it is meant for development only and skips streamed
+ * responses (event streams and the CSV/NDJSON exports), which would otherwise be held in memory.
+ */
+@Component
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Statement-Count";
+
+    private static final List<String> STREAMED_TYPES = List.of(
+        MediaType.TEXT_EVENT_STREAM_VALUE,
+        MediaType.APPLICATION_NDJSON_VALUE,
+        "text/csv");
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry registry;
+    private final boolean exposeHeader;
+
+    public StatementCountFilter(StatementCounter statementCounter,
+                                MeterRegistry registry,
+                                @Value("${diagnostics.statement-count-header:false}") boolean exposeHeader) {
+        this.statementCounter = statementCounter;
+        this.registry = registry;
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = exposeHeader && !isStreamed(request)
+            ? new ContentCachingResponseWrapper(response)
+            : null;
+        try (StatementCounter.Scope scope = statementCounter.start()) {
+            try {
+                filterChain.doFilter(request, buffered != null ? buffered : response);
+            } finally {
+                record(request, scope.count());
+                if (buffered != null) {
+                    buffered.setHeader(HEADER, Integer.toString(scope.count()));
+                    buffered.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("http.server.requests.statements")
+            .description("SQL statements issued while handling a request")
+            .tag("method", request.getMethod())
+            .tag("uri", route != null ? route.toString() : "UNKNOWN")
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(statements);
+    }
+
+    private static boolean isStreamed(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && STREAMED_TYPES.stream().anyMatch(accept::contains);
+    }
+}
@@ -0,0 +1,54 @@
+package com.tickets.backend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a {@link Scope} is open.
+ * Scopes nest: closing an inner scope adds its count to the enclosing one, so a test measuring a
+ * whole request still sees statements counted by the request filter.
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    public Scope start() {
+        Scope scope = new Scope(current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = current.get();
+        if (scope != null) {
+            scope.count++;
+        }
+        return sql;
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (parent != null) {
+                parent.count += count;
+                current.set(parent);
+            } else {
+                current.remove();
+            }
+        }
+    }
+}
@@ -1,61 +1,71 @@
 package com.tickets.backend.controller;
 
 import com.tickets.backend.dto.admin.EventSummaryDto;
+import com.tickets.backend.dto.admin.RollupRebuildResponse;
 import com.tickets.backend.dto.admin.VenueSummaryDto;
-import com.tickets.backend.model.Event;
-import com.tickets.backend.model.Venue;
-import com.tickets.backend.repository.PurchaseRepository;
-import com.tickets.backend.service.EventService;
-import com.tickets.backend.service.VenueService;
+import com.tickets.backend.repository.projection.EventRevenueView;
+import com.tickets.backend.service.AdminDashboardService;
+import com.tickets.backend.service.SalesRollupService;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
+@Lazy
 @RequestMapping("/api/admin")
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
-    private final VenueService venueService;
-    private final EventService eventService;
-    private final PurchaseRepository purchaseRepository;
+    private final AdminDashboardService adminDashboardService;
+    private final SalesRollupService salesRollupService;
 
-    public AdminController(VenueService venueService,
-                           EventService eventService,
-                           PurchaseRepository purchaseRepository) {
-        this.venueService = venueService;
-        this.eventService = eventService;
-        this.purchaseRepository = purchaseRepository;
+    public AdminController(AdminDashboardService adminDashboardService,
+                           SalesRollupService salesRollupService) {
+        this.adminDashboardService = adminDashboardService;
+        this.salesRollupService = salesRollupService;
     }
 
     @GetMapping("/dashboard")
     public ResponseEntity<List<VenueSummaryDto>> dashboard() {
-        List<VenueSummaryDto> venues = venueService.findAll().stream()
-            .map(this::mapVenue)
-            .toList();
-        return ResponseEntity.ok(venues);
+        Map<UUID, VenueSummaryDto> venues = new LinkedHashMap<>();
+        for (EventRevenueView row : adminDashboardService.loadEventRevenue()) {
+            VenueSummaryDto venue = venues.computeIfAbsent(row.getVenueId(), id -> new VenueSummaryDto(
+                id,
+                row.getVenueName(),
+                row.getVenueLocation(),
+                new ArrayList<>()
+            ));
+            if (row.getEventId() != null) {
+                venue.events().add(mapEvent(row));
+            }
+        }
+        return ResponseEntity.ok(List.copyOf(venues.values()));
     }
 
-    private VenueSummaryDto mapVenue(Venue venue) {
-        List<EventSummaryDto> events = eventService.listByVenue(venue.getId()).stream()
-            .map(this::mapEvent)
-            .toList();
-        return new VenueSummaryDto(venue.getId(), venue.getName(), venue.getLocation(), events);
+    @PostMapping("/sales-rollups:rebuild")
+    public ResponseEntity<RollupRebuildResponse> rebuildSalesRollups() {
+        return ResponseEntity.ok(new RollupRebuildResponse(salesRollupService.rebuild()));
     }
 
-    private EventSummaryDto mapEvent(Event event) {
-        Integer revenue = purchaseRepository.sumRevenueForEvent(event.getId());
+    private EventSummaryDto mapEvent(EventRevenueView row) {
+        Long revenue = row.getRevenueCents();
         return new EventSummaryDto(
-            event.getId(),
-            event.getTitle(),
-            event.getStartsAt().toString(),
-            event.getTicketsTotal(),
-            event.getTicketsSold(),
-            revenue == null ? 0 : revenue
+            row.getEventId(),
+            row.getTitle(),
+            row.getStartsAt().toString(),
+            row.getTicketsTotal(),
+            row.getTicketsSold(),
+            revenue == null ? 0L : revenue
         );
     }
 }
@@ -0,0 +1,51 @@
+package com.tickets.backend.controller;
+
+import com.tickets.backend.dto.event.CheckoutRequest;
+import com.tickets.backend.dto.event.CheckoutResponse;
+import com.tickets.backend.model.User;
+import com.tickets.backend.service.CurrentUserService;
+import com.tickets.backend.service.PurchaseGate;
+import com.tickets.backend.service.PurchaseService;
+import com.tickets.backend.service.model.CartItem;
+import com.tickets.backend.service.model.CheckoutResult;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+public class CheckoutController {
+
+    private final PurchaseService purchaseService;
+    private final CurrentUserService currentUserService;
+    private final PurchaseGate purchaseGate;
+
+    public CheckoutController(PurchaseService purchaseService,
+                              CurrentUserService currentUserService,
+                              PurchaseGate purchaseGate) {
+        this.purchaseService = purchaseService;
+        this.currentUserService = currentUserService;
+        this.purchaseGate = purchaseGate;
+    }
+
+    @PostMapping("/checkout")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<CheckoutResponse> checkout(@Valid @RequestBody CheckoutRequest request,
+                                                     @RequestHeader(name = "Idempotency-Key") String idempotencyKey) {
+        try (PurchaseGate.Permit ignored = purchaseGate.enter()) {
+            User user = currentUserService.requireCurrentUser();
+            List<CartItem> items = request.items().stream()
+                .map(item -> new CartItem(item.eventId(), item.quantity()))
+                .toList();
+            CheckoutResult result = purchaseService.checkout(user, items, request.paymentToken(), idempotencyKey);
+            return ResponseEntity.ok(CheckoutResponse.from(result));
+        }
+    }
+}
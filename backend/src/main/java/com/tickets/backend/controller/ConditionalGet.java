@@ -0,0 +1,46 @@
+package com.tickets.backend.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+final class ConditionalGet {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.SECONDS)
+        .cachePublic()
+        .mustRevalidate();
+
+    private ConditionalGet() {
+    }
+
+    static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(CACHE_CONTROL)
+            .build();
+    }
+
+    static ResponseEntity.BodyBuilder ok(String etag) {
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CACHE_CONTROL);
+    }
+}
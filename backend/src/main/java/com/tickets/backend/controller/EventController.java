@@ -1,23 +1,37 @@
 package com.tickets.backend.controller;
 
 import com.tickets.backend.dto.event.CreateEventRequest;
+import com.tickets.backend.dto.event.EventPageResponse;
 import com.tickets.backend.dto.event.EventResponse;
+import com.tickets.backend.dto.event.EventSalesResponse;
 import com.tickets.backend.dto.event.GenerateTicketsRequest;
 import com.tickets.backend.dto.event.PurchaseRequest;
 import com.tickets.backend.dto.event.PurchaseResponse;
-import com.tickets.backend.dto.event.PurchaserResponse;
+import com.tickets.backend.dto.event.PurchaserPageResponse;
 import com.tickets.backend.dto.event.TicketBatchResponse;
 import com.tickets.backend.model.Event;
 import com.tickets.backend.model.User;
 import com.tickets.backend.model.Venue;
-import com.tickets.backend.repository.PurchaseRepository;
 import com.tickets.backend.service.AuditService;
+import com.tickets.backend.service.AvailabilityStream;
 import com.tickets.backend.service.CurrentUserService;
+import com.tickets.backend.service.EventCatalog;
+import com.tickets.backend.service.EventQueryService;
+import com.tickets.backend.service.EventSearchService;
 import com.tickets.backend.service.EventService;
+import com.tickets.backend.service.PurchaseGate;
 import com.tickets.backend.service.PurchaseService;
+import com.tickets.backend.service.PurchaserExportService;
+import com.tickets.backend.service.PurchaserQueryService;
+import com.tickets.backend.service.ResourceEtags;
+import com.tickets.backend.service.SalesRollupService;
 import com.tickets.backend.service.UserService;
+import com.tickets.backend.service.model.EventCatalogSnapshot;
+import com.tickets.backend.service.model.EventFilter;
 import com.tickets.backend.service.model.PurchaseResult;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -28,56 +42,132 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api")
 public class EventController {
 
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+
     private final EventService eventService;
     private final PurchaseService purchaseService;
-    private final PurchaseRepository purchaseRepository;
+    private final PurchaserExportService purchaserExportService;
+    private final PurchaserQueryService purchaserQueryService;
     private final AuditService auditService;
     private final CurrentUserService currentUserService;
     private final UserService userService;
+    private final SalesRollupService salesRollupService;
+    private final EventCatalog eventCatalog;
+    private final ResourceEtags resourceEtags;
+    private final AvailabilityStream availabilityStream;
+    private final EventQueryService eventQueryService;
+    private final EventSearchService eventSearchService;
+    private final PurchaseGate purchaseGate;
 
     public EventController(EventService eventService,
                            PurchaseService purchaseService,
-                           PurchaseRepository purchaseRepository,
+                           PurchaserExportService purchaserExportService,
+                           PurchaserQueryService purchaserQueryService,
                            AuditService auditService,
                            CurrentUserService currentUserService,
-                           UserService userService) {
+                           UserService userService,
+                           SalesRollupService salesRollupService,
+                           EventCatalog eventCatalog,
+                           ResourceEtags resourceEtags,
+                           AvailabilityStream availabilityStream,
+                           EventQueryService eventQueryService,
+                           EventSearchService eventSearchService,
+                           PurchaseGate purchaseGate) {
         this.eventService = eventService;
         this.purchaseService = purchaseService;
-        this.purchaseRepository = purchaseRepository;
+        this.purchaserExportService = purchaserExportService;
+        this.purchaserQueryService = purchaserQueryService;
         this.auditService = auditService;
         this.currentUserService = currentUserService;
         this.userService = userService;
+        this.salesRollupService = salesRollupService;
+        this.eventCatalog = eventCatalog;
+        this.resourceEtags = resourceEtags;
+        this.availabilityStream = availabilityStream;
+        this.eventQueryService = eventQueryService;
+        this.eventSearchService = eventSearchService;
+        this.purchaseGate = purchaseGate;
     }
 
     @GetMapping("/events")
-    public ResponseEntity<List<EventResponse>> listEvents() {
-        List<EventResponse> events = eventService.listUpcoming().stream()
-            .map(EventResponse::fromModel)
-            .toList();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<byte[]> listEvents(@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        EventCatalogSnapshot catalog = eventCatalog.snapshot();
+        if (ConditionalGet.isNotModified(ifNoneMatch, catalog.etag())) {
+            return ConditionalGet.notModified(catalog.etag());
+        }
+        return ConditionalGet.ok(catalog.etag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(catalog.json());
+    }
+
+    @GetMapping("/events/browse")
+    public ResponseEntity<EventPageResponse> browseEvents(@RequestParam(required = false) UUID venueId,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+                                                          @RequestParam(required = false) Integer minPriceCents,
+                                                          @RequestParam(required = false) Integer maxPriceCents,
+                                                          @RequestParam(defaultValue = "false") boolean available,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "50") int limit) {
+        EventFilter filter = new EventFilter(venueId, from, to, minPriceCents, maxPriceCents, available);
+        return ResponseEntity.ok(eventQueryService.page(filter, cursor, limit));
+    }
+
+    @GetMapping("/events/search")
+    public ResponseEntity<List<EventResponse>> searchEvents(@RequestParam("q") String query,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventSearchService.search(query, limit));
     }
 
     @GetMapping("/venues/{venueId}/events")
-    public ResponseEntity<List<EventResponse>> listVenueEvents(@PathVariable UUID venueId) {
+    public ResponseEntity<List<EventResponse>> listVenueEvents(@PathVariable UUID venueId,
+                                                               @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Read the version before the rows, so a write in between leaves the tag older than the body.
+        String etag = resourceEtags.of(eventService.getVenueEventsVersion(venueId));
+        if (ConditionalGet.isNotModified(ifNoneMatch, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
         List<EventResponse> events = eventService.listByVenue(venueId).stream()
             .map(EventResponse::fromModel)
             .toList();
-        return ResponseEntity.ok(events);
+        return ConditionalGet.ok(etag).body(events);
     }
 
     @GetMapping("/events/{eventId}")
-    public ResponseEntity<EventResponse> getEvent(@PathVariable UUID eventId) {
+    public ResponseEntity<EventResponse> getEvent(@PathVariable UUID eventId,
+                                                  @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> current = eventService.findVersion(eventId).map(resourceEtags::of);
+            if (current.isPresent() && ConditionalGet.isNotModified(ifNoneMatch, current.get())) {
+                return ConditionalGet.notModified(current.get());
+            }
+        }
         Event event = eventService.getById(eventId);
-        return ResponseEntity.ok(EventResponse.fromModel(event));
+        return ConditionalGet.ok(resourceEtags.of(event)).body(EventResponse.fromModel(event));
+    }
+
+    @GetMapping(path = "/events/{eventId}/availability", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(@PathVariable UUID eventId, HttpServletResponse response) {
+        SseEmitter emitter = availabilityStream.subscribe(eventId);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+        return emitter;
     }
 
     @PostMapping("/venues/{venueId}/events")
@@ -111,36 +201,52 @@ public class EventController {
 
     @GetMapping(value = "/events/{eventId}/purchasers", produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
-    public ResponseEntity<List<PurchaserResponse>> getPurchasers(@PathVariable UUID eventId) {
+    public ResponseEntity<PurchaserPageResponse> getPurchasers(@PathVariable UUID eventId,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) String email,
+                                                               @RequestParam(defaultValue = "50") int limit,
+                                                               @RequestParam(defaultValue = "false") boolean includeTotal) {
         User actor = currentUserService.requireCurrentUser();
         ensureManagerAccess(actor, eventService.getById(eventId).getVenue().getId());
-        var purchases = purchaseRepository.findAllByEventIdWithUser(eventId).stream()
-            .map(purchase -> new PurchaserResponse(
-                purchase.getUser().getEmail(),
-                purchase.getUser().getDisplayName(),
-                purchase.getQuantity(),
-                purchase.getTotalAmountCents(),
-                purchase.getCreatedAt().toString()
-            ))
-            .toList();
-        return ResponseEntity.ok(purchases);
+        return ResponseEntity.ok(purchaserQueryService.page(eventId, cursor, email, limit, includeTotal));
+    }
+
+    @GetMapping(value = "/events/{eventId}/purchasers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
+    public void getPurchasersNdjson(@PathVariable UUID eventId,
+                                    @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                    HttpServletResponse response) throws IOException {
+        User actor = currentUserService.requireCurrentUser();
+        ensureManagerAccess(actor, eventService.getById(eventId).getVenue().getId());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (OutputStream out = openExportStream(response, acceptEncoding)) {
+            purchaserExportService.writeNdjson(eventId, out);
+        }
     }
 
     @GetMapping(value = "/events/{eventId}/purchasers", produces = "text/csv")
     @PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
-    public ResponseEntity<String> getPurchasersCsv(@PathVariable UUID eventId) {
+    public void getPurchasersCsv(@PathVariable UUID eventId,
+                                 @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                 HttpServletResponse response) throws IOException {
+        User actor = currentUserService.requireCurrentUser();
+        ensureManagerAccess(actor, eventService.getById(eventId).getVenue().getId());
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=purchasers.csv");
+        try (OutputStream out = openExportStream(response, acceptEncoding)) {
+            purchaserExportService.writeCsv(eventId, out);
+        }
+    }
+
+    @GetMapping("/events/{eventId}/sales")
+    @PreAuthorize("hasAnyRole('MANAGER','ADMIN')")
+    public ResponseEntity<EventSalesResponse> getSales(@PathVariable UUID eventId) {
         User actor = currentUserService.requireCurrentUser();
         ensureManagerAccess(actor, eventService.getById(eventId).getVenue().getId());
-        StringBuilder csv = new StringBuilder("email,display_name,quantity,total_amount_cents,purchased_at\n");
-        purchaseRepository.findAllByEventIdWithUser(eventId).forEach(purchase -> csv
-            .append(purchase.getUser().getEmail()).append(',')
-            .append(escapeCsv(purchase.getUser().getDisplayName())).append(',')
-            .append(purchase.getQuantity()).append(',')
-            .append(purchase.getTotalAmountCents()).append(',')
-            .append(purchase.getCreatedAt()).append('\n'));
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=purchasers.csv")
-            .body(csv.toString());
+        return ResponseEntity.ok(EventSalesResponse.from(
+            salesRollupService.getRollup(eventId),
+            salesRollupService.getHourly(eventId)
+        ));
     }
 
     @PostMapping("/events/{eventId}/purchase")
@@ -148,15 +254,17 @@ public class EventController {
     public ResponseEntity<PurchaseResponse> purchase(@PathVariable UUID eventId,
                                                      @Valid @RequestBody PurchaseRequest request,
                                                      @RequestHeader(name = "Idempotency-Key") String idempotencyKey) {
-        User user = currentUserService.requireCurrentUser();
-        PurchaseResult result = purchaseService.purchaseTickets(
-            user,
-            eventId,
-            request.quantity(),
-            request.paymentToken(),
-            idempotencyKey
-        );
-        return ResponseEntity.ok(PurchaseResponse.from(result));
+        try (PurchaseGate.Permit ignored = purchaseGate.enter()) {
+            User user = currentUserService.requireCurrentUser();
+            PurchaseResult result = purchaseService.purchaseTickets(
+                user,
+                eventId,
+                request.quantity(),
+                request.paymentToken(),
+                idempotencyKey
+            );
+            return ResponseEntity.ok(PurchaseResponse.from(result));
+        }
     }
 
     private void ensureManagerAccess(User actor, UUID venueId) {
@@ -172,13 +280,12 @@ public class EventController {
         }
     }
 
-    private String escapeCsv(String value) {
-        if (value == null) {
-            return "";
-        }
-        if (value.contains(",") || value.contains("\"")) {
-            return "\"" + value.replace("\"", "\"\"") + "\"";
+    private OutputStream openExportStream(HttpServletResponse response, String acceptEncoding) throws IOException {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return new GZIPOutputStream(response.getOutputStream(), EXPORT_BUFFER_SIZE);
         }
-        return value;
+        return response.getOutputStream();
     }
 }
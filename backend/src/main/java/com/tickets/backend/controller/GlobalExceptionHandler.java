@@ -1,7 +1,9 @@
 package com.tickets.backend.controller;
 
 import com.tickets.backend.service.exception.EventNotFoundException;
+import com.tickets.backend.service.exception.PurchasesSuspendedException;
 import com.tickets.backend.service.exception.VenueNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -30,6 +32,13 @@ public class GlobalExceptionHandler {
             .body(errorPayload("conflict", ex.getMessage()));
     }
 
+    @ExceptionHandler(PurchasesSuspendedException.class)
+    public ResponseEntity<Map<String, Object>> handleSuspended(PurchasesSuspendedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(errorPayload("unavailable", ex.getMessage()));
+    }
+
     private Map<String, Object> errorPayload(String code, String message) {
         return Map.of(
             "timestamp", Instant.now().toString(),
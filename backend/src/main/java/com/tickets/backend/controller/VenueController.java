@@ -5,13 +5,16 @@ import com.tickets.backend.dto.venue.VenueResponse;
 import com.tickets.backend.model.User;
 import com.tickets.backend.service.AuditService;
 import com.tickets.backend.service.CurrentUserService;
+import com.tickets.backend.service.ResourceEtags;
 import com.tickets.backend.service.VenueService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,21 +27,28 @@ public class VenueController {
     private final VenueService venueService;
     private final AuditService auditService;
     private final CurrentUserService currentUserService;
+    private final ResourceEtags resourceEtags;
 
     public VenueController(VenueService venueService,
                            AuditService auditService,
-                           CurrentUserService currentUserService) {
+                           CurrentUserService currentUserService,
+                           ResourceEtags resourceEtags) {
         this.venueService = venueService;
         this.auditService = auditService;
         this.currentUserService = currentUserService;
+        this.resourceEtags = resourceEtags;
     }
 
     @GetMapping
-    public ResponseEntity<List<VenueResponse>> listVenues() {
+    public ResponseEntity<List<VenueResponse>> listVenues(@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = resourceEtags.of(venueService.getVersion());
+        if (ConditionalGet.isNotModified(ifNoneMatch, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
         List<VenueResponse> venues = venueService.findAll().stream()
             .map(VenueResponse::fromModel)
             .toList();
-        return ResponseEntity.ok(venues);
+        return ConditionalGet.ok(etag).body(venues);
     }
 
     @PostMapping
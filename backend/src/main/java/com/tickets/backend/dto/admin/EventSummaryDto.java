@@ -6,7 +6,7 @@ public record EventSummaryDto(
     String startsAt,
     int ticketsTotal,
     int ticketsSold,
-    int revenueCents
+    long revenueCents
 ) {
 }
 
@@ -0,0 +1,4 @@
+package com.tickets.backend.dto.admin;
+
+public record RollupRebuildResponse(int eventsRebuilt) {
+}
@@ -0,0 +1,12 @@
+package com.tickets.backend.dto.diagnostics;
+
+import java.util.UUID;
+
+public record ContendedEvent(
+    UUID eventId,
+    String title,
+    long lockAcquisitions,
+    long totalWaitMillis,
+    long maxWaitMillis
+) {
+}
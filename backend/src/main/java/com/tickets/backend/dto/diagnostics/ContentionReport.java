@@ -0,0 +1,10 @@
+package com.tickets.backend.dto.diagnostics;
+
+import java.util.List;
+
+public record ContentionReport(
+    List<PoolStats> pools,
+    List<LockWaiter> lockWaiters,
+    List<ContendedEvent> topEvents
+) {
+}
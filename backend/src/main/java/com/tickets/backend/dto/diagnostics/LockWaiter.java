@@ -0,0 +1,12 @@
+package com.tickets.backend.dto.diagnostics;
+
+import java.util.List;
+
+public record LockWaiter(
+    int pid,
+    String waitEvent,
+    long waitingMillis,
+    List<Integer> blockedBy,
+    String query
+) {
+}
@@ -0,0 +1,11 @@
+package com.tickets.backend.dto.diagnostics;
+
+public record PoolStats(
+    String pool,
+    int active,
+    int idle,
+    int pending,
+    int total,
+    int max
+) {
+}
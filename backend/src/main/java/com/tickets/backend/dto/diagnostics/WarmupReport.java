@@ -0,0 +1,11 @@
+package com.tickets.backend.dto.diagnostics;
+
+import java.time.Instant;
+import java.util.List;
+
+public record WarmupReport(
+    Instant finishedAt,
+    long durationMillis,
+    List<WarmupStepResult> steps
+) {
+}
@@ -0,0 +1,9 @@
+package com.tickets.backend.dto.diagnostics;
+
+public record WarmupStepResult(
+    String step,
+    String outcome,
+    long durationMillis,
+    String detail
+) {
+}
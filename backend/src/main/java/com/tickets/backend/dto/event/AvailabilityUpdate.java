@@ -0,0 +1,20 @@
+package com.tickets.backend.dto.event;
+
+import com.tickets.backend.repository.projection.EventAvailabilityView;
+
+import java.util.UUID;
+
+public record AvailabilityUpdate(UUID eventId,
+                                 int ticketsTotal,
+                                 int ticketsSold,
+                                 int ticketsAvailable) {
+
+    public static AvailabilityUpdate from(EventAvailabilityView view) {
+        return new AvailabilityUpdate(
+            view.getId(),
+            view.getTicketsTotal(),
+            view.getTicketsSold(),
+            Math.max(0, view.getTicketsTotal() - view.getTicketsSold())
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.tickets.backend.dto.event;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CheckoutRequest(@NotEmpty List<@Valid Item> items,
+                              @NotBlank String paymentToken) {
+
+    public record Item(@NotNull UUID eventId,
+                       @Positive int quantity) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.tickets.backend.dto.event;
+
+import com.tickets.backend.service.model.CheckoutResult;
+
+import java.util.List;
+
+public record CheckoutResponse(String paymentReference,
+                               int totalAmountCents,
+                               List<PurchaseResponse> purchases) {
+    public static CheckoutResponse from(CheckoutResult result) {
+        return new CheckoutResponse(
+            result.paymentReference(),
+            result.totalAmountCents(),
+            result.purchases().stream().map(PurchaseResponse::from).toList()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.tickets.backend.dto.event;
+
+import java.util.List;
+
+public record EventPageResponse(List<EventResponse> items,
+                                String nextCursor) {
+}
@@ -1,6 +1,7 @@
 package com.tickets.backend.dto.event;
 
 import com.tickets.backend.model.Event;
+import com.tickets.backend.repository.projection.EventListingView;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -29,4 +30,19 @@ public record EventResponse(UUID id,
             entity.getTicketsSold()
         );
     }
+
+    public static EventResponse fromView(EventListingView view) {
+        return new EventResponse(
+            view.getId(),
+            view.getVenueId(),
+            view.getVenueName(),
+            view.getTitle(),
+            view.getDescription(),
+            view.getStartsAt(),
+            view.getEndsAt(),
+            view.getFaceValueCents(),
+            view.getTicketsTotal(),
+            view.getTicketsSold()
+        );
+    }
 }
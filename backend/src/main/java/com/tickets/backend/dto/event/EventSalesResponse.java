@@ -0,0 +1,38 @@
+package com.tickets.backend.dto.event;
+
+import com.tickets.backend.model.EventSalesHourly;
+import com.tickets.backend.model.EventSalesRollup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record EventSalesResponse(UUID eventId,
+                                 int ticketsSold,
+                                 long revenueCents,
+                                 int purchaseCount,
+                                 List<HourlySales> hourly) {
+
+    public record HourlySales(Instant hour,
+                              int ticketsSold,
+                              long revenueCents,
+                              int purchaseCount) {
+    }
+
+    public static EventSalesResponse from(EventSalesRollup rollup, List<EventSalesHourly> hourly) {
+        return new EventSalesResponse(
+            rollup.getEventId(),
+            rollup.getTicketsSold(),
+            rollup.getRevenueCents(),
+            rollup.getPurchaseCount(),
+            hourly.stream()
+                .map(bucket -> new HourlySales(
+                    bucket.getId().getBucketStart(),
+                    bucket.getTicketsSold(),
+                    bucket.getRevenueCents(),
+                    bucket.getPurchaseCount()
+                ))
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package com.tickets.backend.dto.event;
+
+import java.util.List;
+
+public record PurchaserPageResponse(List<PurchaserResponse> items,
+                                    String nextCursor,
+                                    Long totalCount) {
+}
@@ -0,0 +1,32 @@
+package com.tickets.backend.model;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * Base for entities whose UUID is assigned before saving. Spring Data cannot tell such an entity
+ * is new from its id, so without this {@code save()} would merge and issue a SELECT per row;
+ * tracking persistence state lets it persist directly and keeps inserts batchable.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -19,11 +19,11 @@ import java.util.UUID;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-@EqualsAndHashCode(of = "id")
+@EqualsAndHashCode(of = "id", callSuper = false)
 @ToString(of = {"id", "actorEmail", "action"})
 @Entity
 @Table(name = "audit_logs")
-public class AuditLog {
+public class AuditLog extends AssignedIdEntity {
 
     @Id
     private UUID id;
@@ -1,6 +1,7 @@
 package com.tickets.backend.model;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,16 +22,16 @@ import java.util.UUID;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-@EqualsAndHashCode(of = "id")
+@EqualsAndHashCode(of = "id", callSuper = false)
 @ToString(of = {"id", "title"})
 @Entity
 @Table(name = "events")
-public class Event {
+public class Event extends AssignedIdEntity {
 
     @Id
     private UUID id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private Venue venue;
 
     private String title;
@@ -54,4 +55,15 @@ public class Event {
 
     @Default
     private Instant updatedAt = Instant.now();
+
+    @Default
+    private long version = 0;
+
+    /**
+     * Bumps the version ETags are derived from; call on every change to a field the event's
+     * responses show.
+     */
+    public void markChanged() {
+        this.version++;
+    }
 }
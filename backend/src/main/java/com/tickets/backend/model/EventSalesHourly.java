@@ -0,0 +1,36 @@
+package com.tickets.backend.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Data
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id")
+@ToString(of = {"id", "ticketsSold", "revenueCents"})
+@Entity
+@Table(name = "event_sales_hourly")
+public class EventSalesHourly {
+
+    @EmbeddedId
+    private EventSalesHourlyId id;
+
+    @Default
+    private int ticketsSold = 0;
+
+    @Default
+    private long revenueCents = 0;
+
+    @Default
+    private int purchaseCount = 0;
+}
@@ -0,0 +1,21 @@
+package com.tickets.backend.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class EventSalesHourlyId implements Serializable {
+
+    private UUID eventId;
+
+    private Instant bucketStart;
+}
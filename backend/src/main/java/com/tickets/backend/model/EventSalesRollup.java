@@ -0,0 +1,42 @@
+package com.tickets.backend.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "eventId")
+@ToString(of = {"eventId", "ticketsSold", "revenueCents"})
+@Entity
+@Table(name = "event_sales_rollup")
+public class EventSalesRollup {
+
+    @Id
+    private UUID eventId;
+
+    @Default
+    private int ticketsSold = 0;
+
+    @Default
+    private long revenueCents = 0;
+
+    @Default
+    private int purchaseCount = 0;
+
+    @Default
+    private Instant updatedAt = Instant.now();
+}
@@ -1,6 +1,7 @@
 package com.tickets.backend.model;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
@@ -14,6 +15,8 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -22,19 +25,20 @@ import java.util.UUID;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-@EqualsAndHashCode(of = "id")
+@EqualsAndHashCode(of = "id", callSuper = false)
 @ToString(of = {"id", "code", "status"})
 @Entity
 @Table(name = "tickets")
-public class Ticket {
+public class Ticket extends AssignedIdEntity {
 
     @Id
     private UUID id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private Event event;
 
-    @Enumerated(EnumType.STRING)
+    @Enumerated(EnumType.ORDINAL)
+    @JdbcTypeCode(SqlTypes.SMALLINT)
     private TicketStatus status;
 
     @Default
@@ -42,6 +46,29 @@ public class Ticket {
 
     private String code;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Purchase purchase;
+
+    private Instant reservedAt;
+
+    private UUID reservationToken;
+
+    public void reserve(UUID token, Instant at) {
+        this.status = TicketStatus.RESERVED;
+        this.reservationToken = token;
+        this.reservedAt = at;
+    }
+
+    public void release() {
+        this.status = TicketStatus.AVAILABLE;
+        this.reservationToken = null;
+        this.reservedAt = null;
+    }
+
+    public void sell(Purchase purchase) {
+        this.status = TicketStatus.SOLD;
+        this.purchase = purchase;
+        this.reservationToken = null;
+        this.reservedAt = null;
+    }
 }
@@ -1,8 +1,24 @@
 package com.tickets.backend.model;
 
+import jakarta.persistence.EnumeratedValue;
+
+/**
+ * Stored as the smallint {@link #code}; the partial indexes on {@code tickets} are declared against
+ * these values, so existing codes must never be renumbered.
+ */
 public enum TicketStatus {
-    AVAILABLE,
-    RESERVED,
-    SOLD
-}
+    AVAILABLE((short) 0),
+    RESERVED((short) 1),
+    SOLD((short) 2);
+
+    @EnumeratedValue
+    private final short code;
 
+    TicketStatus(short code) {
+        this.code = code;
+    }
+
+    public short code() {
+        return code;
+    }
+}
@@ -40,4 +40,7 @@ public class Venue {
 
     @Default
     private Instant updatedAt = Instant.now();
+
+    @Default
+    private long version = 0;
 }
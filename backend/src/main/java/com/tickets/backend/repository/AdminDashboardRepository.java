@@ -0,0 +1,49 @@
+package com.tickets.backend.repository;
+
+import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.projection.EventRevenueView;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AdminDashboardRepository extends Repository<Venue, UUID> {
+
+    @Query("""
+        select v.id as venueId,
+               v.name as venueName,
+               v.location as venueLocation,
+               e.id as eventId,
+               e.title as title,
+               e.startsAt as startsAt,
+               e.ticketsTotal as ticketsTotal,
+               e.ticketsSold as ticketsSold,
+               coalesce(r.revenueCents, 0) as revenueCents
+        from Venue v
+        left join Event e on e.venue = v
+        left join EventSalesRollup r on r.eventId = e.id
+        order by v.name asc, v.id asc, e.startsAt asc
+        """)
+    List<EventRevenueView> summarizeEventRevenue();
+
+    @Query(value = """
+        select venue_id as venueId,
+               venue_name as venueName,
+               venue_location as venueLocation,
+               event_id as eventId,
+               title as title,
+               starts_at as startsAt,
+               tickets_total as ticketsTotal,
+               tickets_sold as ticketsSold,
+               revenue_cents as revenueCents
+        from admin_event_summary
+        order by venue_name asc, venue_id asc, starts_at asc
+        """, nativeQuery = true)
+    List<EventRevenueView> readMaterializedSummary();
+
+    @Modifying
+    @Query(value = "refresh materialized view concurrently admin_event_summary", nativeQuery = true)
+    void refreshMaterializedSummary();
+}
@@ -1,11 +1,19 @@
 package com.tickets.backend.repository;
 
 import com.tickets.backend.model.Event;
+import com.tickets.backend.repository.projection.EventAvailabilityView;
+import com.tickets.backend.repository.projection.EventListingView;
+import com.tickets.backend.repository.projection.ResourceVersionView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface EventRepository extends JpaRepository<Event, UUID> {
@@ -13,9 +21,114 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
     @Query("select e from Event e join fetch e.venue v order by e.startsAt asc")
     List<Event> findAllWithVenue();
 
-    @Query("select e from Event e where e.venue.id = :venueId order by e.startsAt asc")
+    @Query("select e from Event e join fetch e.venue v where v.id = :venueId order by e.startsAt asc")
     List<Event> findByVenueId(UUID venueId);
 
-    @Query("select e from Event e where e.startsAt >= :now order by e.startsAt asc")
+    @EntityGraph(attributePaths = "venue")
+    Optional<Event> findWithVenueById(UUID id);
+
+    @Query("select e.version + v.version from Event e join e.venue v where e.id = :id")
+    Optional<Long> findVersionById(UUID id);
+
+    @Query("""
+        select count(e) as entries, coalesce(sum(e.version + v.version), 0L) as versionSum
+        from Event e
+        join e.venue v
+        where v.id = :venueId
+        """)
+    ResourceVersionView findVersionByVenueId(UUID venueId);
+
+    @Query("select e from Event e join fetch e.venue v where e.startsAt >= :now order by e.startsAt asc")
     List<Event> findUpcoming(OffsetDateTime now);
+
+    @Query("select e.id as id, e.ticketsTotal as ticketsTotal, e.ticketsSold as ticketsSold from Event e where e.id in :ids")
+    List<EventAvailabilityView> findAvailability(Collection<UUID> ids);
+
+    @Query("""
+        select e.id as id,
+               v.id as venueId,
+               v.name as venueName,
+               e.title as title,
+               e.description as description,
+               e.startsAt as startsAt,
+               e.endsAt as endsAt,
+               e.faceValueCents as faceValueCents,
+               e.ticketsTotal as ticketsTotal,
+               e.ticketsSold as ticketsSold
+        from Event e
+        join e.venue v
+        where (e.startsAt, e.id) > (:afterStartsAt, :afterId)
+          and e.startsAt < :before
+          and e.faceValueCents between :minPriceCents and :maxPriceCents
+          and e.ticketsTotal - e.ticketsSold >= :minAvailable
+        order by e.startsAt asc, e.id asc
+        """)
+    List<EventListingView> findListingsAfter(OffsetDateTime afterStartsAt,
+                                             UUID afterId,
+                                             OffsetDateTime before,
+                                             int minPriceCents,
+                                             int maxPriceCents,
+                                             int minAvailable,
+                                             Pageable pageable);
+
+    @Query("""
+        select e.id as id,
+               v.id as venueId,
+               v.name as venueName,
+               e.title as title,
+               e.description as description,
+               e.startsAt as startsAt,
+               e.endsAt as endsAt,
+               e.faceValueCents as faceValueCents,
+               e.ticketsTotal as ticketsTotal,
+               e.ticketsSold as ticketsSold
+        from Event e
+        join e.venue v
+        where v.id = :venueId
+          and (e.startsAt, e.id) > (:afterStartsAt, :afterId)
+          and e.startsAt < :before
+          and e.faceValueCents between :minPriceCents and :maxPriceCents
+          and e.ticketsTotal - e.ticketsSold >= :minAvailable
+        order by e.startsAt asc, e.id asc
+        """)
+    List<EventListingView> findVenueListingsAfter(UUID venueId,
+                                                  OffsetDateTime afterStartsAt,
+                                                  UUID afterId,
+                                                  OffsetDateTime before,
+                                                  int minPriceCents,
+                                                  int maxPriceCents,
+                                                  int minAvailable,
+                                                  Pageable pageable);
+
+    /**
+     * Ranks at most {@code candidates} matches, the soonest upcoming ones, instead of every row a
+     * short prefix matches: {@code ts_rank} reads each candidate's vector, so its cost is bounded by
+     * the cap rather than by how common the prefix is. See {@code scripts/search-plan.sql}.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = """
+        select e.id as id,
+               v.id as venueId,
+               v.name as venueName,
+               e.title as title,
+               e.description as description,
+               e.starts_at as startsAt,
+               e.ends_at as endsAt,
+               e.face_value_cents as faceValueCents,
+               e.tickets_total as ticketsTotal,
+               e.tickets_sold as ticketsSold
+        from (
+            select m.id, m.venue_id, m.title, m.description, m.starts_at, m.ends_at, m.face_value_cents,
+                   m.tickets_total, m.tickets_sold, m.search_vector
+            from events m
+            where m.search_vector @@ to_tsquery('simple', :tsQuery)
+              and m.starts_at >= :from
+            order by m.starts_at asc, m.id asc
+            limit :candidates
+        ) e
+        join venues v on v.id = e.venue_id
+        order by ts_rank(e.search_vector, to_tsquery('simple', :tsQuery)) desc, e.starts_at asc, e.id asc
+        limit :limit
+        """, nativeQuery = true)
+    List<EventListingView> search(String tsQuery, OffsetDateTime from, int candidates, int limit);
 }
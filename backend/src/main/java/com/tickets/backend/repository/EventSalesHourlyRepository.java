@@ -0,0 +1,45 @@
+package com.tickets.backend.repository;
+
+import com.tickets.backend.model.EventSalesHourly;
+import com.tickets.backend.model.EventSalesHourlyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventSalesHourlyRepository extends JpaRepository<EventSalesHourly, EventSalesHourlyId> {
+
+    @Query("select h from EventSalesHourly h where h.id.eventId = :eventId order by h.id.bucketStart asc")
+    List<EventSalesHourly> findByEventId(UUID eventId);
+
+    @Modifying
+    @Query(value = """
+        insert into event_sales_hourly (event_id, bucket_start, tickets_sold, revenue_cents, purchase_count)
+        values (:eventId, :bucketStart, :quantity, :amountCents, 1)
+        on conflict (event_id, bucket_start) do update
+           set tickets_sold = event_sales_hourly.tickets_sold + excluded.tickets_sold,
+               revenue_cents = event_sales_hourly.revenue_cents + excluded.revenue_cents,
+               purchase_count = event_sales_hourly.purchase_count + 1
+        """, nativeQuery = true)
+    void increment(UUID eventId, Instant bucketStart, int quantity, long amountCents);
+
+    @Modifying
+    @Query(value = "delete from event_sales_hourly", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+        insert into event_sales_hourly (event_id, bucket_start, tickets_sold, revenue_cents, purchase_count)
+        select p.event_id,
+               date_trunc('hour', p.created_at at time zone 'UTC') at time zone 'UTC',
+               sum(p.quantity),
+               sum(p.total_amount_cents),
+               count(*)
+        from purchases p
+        group by p.event_id, date_trunc('hour', p.created_at at time zone 'UTC')
+        """, nativeQuery = true)
+    int rebuildFromPurchases();
+}
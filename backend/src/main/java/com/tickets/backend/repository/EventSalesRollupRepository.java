@@ -0,0 +1,41 @@
+package com.tickets.backend.repository;
+
+import com.tickets.backend.model.EventSalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface EventSalesRollupRepository extends JpaRepository<EventSalesRollup, UUID> {
+
+    @Modifying
+    @Query(value = """
+        insert into event_sales_rollup (event_id, tickets_sold, revenue_cents, purchase_count, updated_at)
+        values (:eventId, :quantity, :amountCents, 1, :now)
+        on conflict (event_id) do update
+           set tickets_sold = event_sales_rollup.tickets_sold + excluded.tickets_sold,
+               revenue_cents = event_sales_rollup.revenue_cents + excluded.revenue_cents,
+               purchase_count = event_sales_rollup.purchase_count + 1,
+               updated_at = excluded.updated_at
+        """, nativeQuery = true)
+    void increment(UUID eventId, int quantity, long amountCents, Instant now);
+
+    @Modifying
+    @Query(value = "lock table event_sales_rollup, event_sales_hourly in share row exclusive mode", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "delete from event_sales_rollup", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+        insert into event_sales_rollup (event_id, tickets_sold, revenue_cents, purchase_count, updated_at)
+        select p.event_id, sum(p.quantity), sum(p.total_amount_cents), count(*), now()
+        from purchases p
+        group by p.event_id
+        """, nativeQuery = true)
+    int rebuildFromPurchases();
+}
@@ -1,34 +1,76 @@
 package com.tickets.backend.repository;
 
 import com.tickets.backend.model.Purchase;
+import com.tickets.backend.repository.projection.PurchaserView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface PurchaseRepository extends JpaRepository<Purchase, UUID> {
 
     Optional<Purchase> findByEventIdAndIdempotencyKey(UUID eventId, String idempotencyKey);
 
+    List<Purchase> findByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query("""
-        select p from Purchase p
-        join fetch p.user u
+        select p.id as id,
+               u.email as email,
+               u.displayName as displayName,
+               p.quantity as quantity,
+               p.totalAmountCents as totalAmountCents,
+               p.createdAt as createdAt
+        from Purchase p
+        join p.user u
         where p.event.id = :eventId
-        order by p.createdAt asc
+        order by p.createdAt asc, p.id asc
         """)
-    List<Purchase> findAllByEventIdWithUser(UUID eventId);
+    Stream<PurchaserView> streamPurchasers(UUID eventId);
 
-    @Query("select coalesce(sum(p.totalAmountCents),0) from Purchase p where p.event.id = :eventId")
-    Integer sumRevenueForEvent(UUID eventId);
+    @Query("""
+        select p.id as id,
+               u.email as email,
+               u.displayName as displayName,
+               p.quantity as quantity,
+               p.totalAmountCents as totalAmountCents,
+               p.createdAt as createdAt
+        from Purchase p
+        join p.user u
+        where p.event.id = :eventId
+          and (p.createdAt, p.id) > (:afterCreatedAt, :afterId)
+        order by p.createdAt asc, p.id asc
+        """)
+    List<PurchaserView> findPurchasersAfter(UUID eventId, Instant afterCreatedAt, UUID afterId, Pageable pageable);
 
     @Query("""
-        select e.id, coalesce(sum(p.totalAmountCents),0) as revenue
+        select p.id as id,
+               u.email as email,
+               u.displayName as displayName,
+               p.quantity as quantity,
+               p.totalAmountCents as totalAmountCents,
+               p.createdAt as createdAt
         from Purchase p
-        right join p.event e
-        where e.venue.id = :venueId
-        group by e.id
+        join p.user u
+        where p.event.id = :eventId
+          and lower(u.email) like :emailPattern escape '\\'
+          and (p.createdAt, p.id) > (:afterCreatedAt, :afterId)
+        order by p.createdAt asc, p.id asc
         """)
-    List<Object[]> aggregateEventRevenue(UUID venueId);
+    List<PurchaserView> findPurchasersByEmailAfter(UUID eventId,
+                                                   String emailPattern,
+                                                   Instant afterCreatedAt,
+                                                   UUID afterId,
+                                                   Pageable pageable);
 }
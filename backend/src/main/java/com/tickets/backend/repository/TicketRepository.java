@@ -6,8 +6,12 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,9 +19,43 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
 
     long countByEventIdAndStatus(UUID eventId, TicketStatus status);
 
+    /**
+     * The status is a literal rather than a parameter so that generic plans of the prepared
+     * statement can still prove the {@code idx_tickets_available} predicate and use the index.
+     */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select t from Ticket t where t.event.id = :eventId and t.status = :status order by t.createdAt asc")
-    List<Ticket> findTicketsForUpdate(UUID eventId, TicketStatus status, Pageable pageable);
+    @Query("""
+        select t from Ticket t
+        where t.event.id = :eventId and t.status = com.tickets.backend.model.TicketStatus.AVAILABLE
+        order by t.createdAt asc
+        """)
+    List<Ticket> findAvailableForUpdate(UUID eventId, Pageable pageable);
 
     List<Ticket> findByPurchaseId(UUID purchaseId);
+
+    List<Ticket> findByPurchaseIdIn(Collection<UUID> purchaseIds);
+
+    /**
+     * Releases up to {@code batchSize} reservations made before {@code cutoff}, oldest first, in its
+     * own transaction. The scan walks the partial {@code idx_tickets_reserved_at} index, and rows a
+     * purchase currently holds are skipped rather than waited on. Statuses are inlined
+     * {@link TicketStatus} codes (1 = RESERVED, 0 = AVAILABLE) matching the index predicate.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        update tickets
+        set status = 0, reserved_at = null, reservation_token = null
+        where id in (
+            select id
+            from tickets
+            where status = 1
+              and reserved_at < :cutoff
+              and purchase_id is null
+            order by reserved_at
+            limit :batchSize
+            for update skip locked
+        )
+        """, nativeQuery = true)
+    int releaseExpiredReservations(Instant cutoff, int batchSize);
 }
@@ -1,9 +1,14 @@
 package com.tickets.backend.repository;
 
 import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.projection.ResourceVersionView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.UUID;
 
 public interface VenueRepository extends JpaRepository<Venue, UUID> {
+
+    @Query("select count(v) as entries, coalesce(sum(v.version), 0L) as versionSum from Venue v")
+    ResourceVersionView findVersion();
 }
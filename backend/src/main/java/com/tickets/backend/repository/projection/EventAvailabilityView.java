@@ -0,0 +1,12 @@
+package com.tickets.backend.repository.projection;
+
+import java.util.UUID;
+
+public interface EventAvailabilityView {
+
+    UUID getId();
+
+    int getTicketsTotal();
+
+    int getTicketsSold();
+}
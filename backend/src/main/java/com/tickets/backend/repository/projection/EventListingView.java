@@ -0,0 +1,27 @@
+package com.tickets.backend.repository.projection;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public interface EventListingView {
+
+    UUID getId();
+
+    UUID getVenueId();
+
+    String getVenueName();
+
+    String getTitle();
+
+    String getDescription();
+
+    OffsetDateTime getStartsAt();
+
+    OffsetDateTime getEndsAt();
+
+    int getFaceValueCents();
+
+    int getTicketsTotal();
+
+    int getTicketsSold();
+}
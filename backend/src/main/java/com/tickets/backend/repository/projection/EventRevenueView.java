@@ -0,0 +1,25 @@
+package com.tickets.backend.repository.projection;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public interface EventRevenueView {
+
+    UUID getVenueId();
+
+    String getVenueName();
+
+    String getVenueLocation();
+
+    UUID getEventId();
+
+    String getTitle();
+
+    OffsetDateTime getStartsAt();
+
+    Integer getTicketsTotal();
+
+    Integer getTicketsSold();
+
+    Long getRevenueCents();
+}
@@ -0,0 +1,19 @@
+package com.tickets.backend.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface PurchaserView {
+
+    UUID getId();
+
+    String getEmail();
+
+    String getDisplayName();
+
+    int getQuantity();
+
+    int getTotalAmountCents();
+
+    Instant getCreatedAt();
+}
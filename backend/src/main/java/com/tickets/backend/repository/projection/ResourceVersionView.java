@@ -0,0 +1,8 @@
+package com.tickets.backend.repository.projection;
+
+public interface ResourceVersionView {
+
+    long getEntries();
+
+    long getVersionSum();
+}
@@ -0,0 +1,45 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.repository.AdminDashboardRepository;
+import com.tickets.backend.repository.projection.EventRevenueView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class AdminDashboardService {
+
+    private final AdminDashboardRepository repository;
+    private final boolean materializedSummary;
+
+    public AdminDashboardService(AdminDashboardRepository repository,
+                                 @Value("${admin.dashboard.materialized-summary:false}") boolean materializedSummary) {
+        this.repository = repository;
+        this.materializedSummary = materializedSummary;
+    }
+
+    /**
+     * Returns one row per venue/event pair (venues without events appear once with null event columns),
+     * ordered by venue name and event start. Revenue comes from the sales rollup, read either with a
+     * single join query or from the materialized summary, depending on {@code admin.dashboard.materialized-summary}.
+     */
+    @Transactional(readOnly = true)
+    public List<EventRevenueView> loadEventRevenue() {
+        if (materializedSummary) {
+            return repository.readMaterializedSummary();
+        }
+        return repository.summarizeEventRevenue();
+    }
+
+    @Scheduled(fixedDelayString = "${admin.dashboard.summary-refresh-interval:PT1M}")
+    @Transactional
+    public void refreshMaterializedSummary() {
+        if (!materializedSummary) {
+            return;
+        }
+        repository.refreshMaterializedSummary();
+    }
+}
@@ -2,6 +2,8 @@ package com.tickets.backend.service;
 
 import com.tickets.backend.model.AuditLog;
 import com.tickets.backend.repository.AuditLogRepository;
+import com.tickets.backend.service.jfr.AuditWriteEvent;
+import com.tickets.backend.util.UuidV7Generator;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -16,8 +18,10 @@ public class AuditService {
     }
 
     public void log(String actorEmail, String action, String entityType, UUID entityId, String details) {
+        AuditWriteEvent profile = new AuditWriteEvent();
+        profile.begin();
         AuditLog log = AuditLog.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7Generator.generate())
             .actorEmail(actorEmail)
             .action(action)
             .entityType(entityType)
@@ -25,5 +29,9 @@ public class AuditService {
             .details(details)
             .build();
         repository.save(log);
+        if (profile.shouldCommit()) {
+            profile.action = action;
+            profile.commit();
+        }
     }
 }
@@ -2,28 +2,66 @@ package com.tickets.backend.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tickets.backend.dto.auth.TokenPayload;
-import com.tickets.backend.util.MessageDigestHelper;
+import com.tickets.backend.service.jfr.TokenParseEvent;
+import com.tickets.backend.service.model.VerifiedToken;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * Issues and verifies HMAC-signed bearer tokens ({@code base64url(payload) "." base64url(hmac)}).
+ * Verification runs on every request, so it scans the token in place, feeds the payload to a
+ * per-thread {@link Mac} through a small chunk buffer and decodes the signature into per-thread
+ * buffers. The payload is only parsed the first time a
+ * signature is seen; afterwards the signature, which the HMAC check has just proven belongs to this
+ * payload, selects the cached {@link VerifiedToken}. Only immutable state is cached; callers build a
+ * fresh {@code Authentication} from it per request. Authority lists are shared per role combination.
+ */
 @Component
 public class AuthTokenService {
 
     private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int CHUNK_SIZE = 256;
+    static final int MAX_TOKEN_LENGTH = 4096;
+
+    private static final byte[] BASE64_URL_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_URL_VALUES, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
 
     private final ObjectMapper objectMapper;
     private final String secret;
+    private final AtomicReferenceArray<VerifiedToken> verified;
+    private final ConcurrentMap<List<String>, List<SimpleGrantedAuthority>> authorities = new ConcurrentHashMap<>();
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(this::newBuffers);
 
     public AuthTokenService(ObjectMapper objectMapper, @Value("${security.auth-token.secret:changeme}") String secret) {
+        this(objectMapper, secret, 4096);
+    }
+
+    AuthTokenService(ObjectMapper objectMapper, String secret, int cacheSize) {
         this.objectMapper = objectMapper;
         this.secret = secret;
+        this.verified = new AtomicReferenceArray<>(Integer.highestOneBit(Math.max(cacheSize, 1)));
     }
 
     @PostConstruct
@@ -41,7 +79,7 @@ public class AuthTokenService {
                 .encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
             String signatureEncoded = Base64.getUrlEncoder()
                 .withoutPadding()
-                .encodeToString(sign(payloadEncoded));
+                .encodeToString(newMac().doFinal(payloadEncoded.getBytes(StandardCharsets.US_ASCII)));
             return payloadEncoded + "." + signatureEncoded;
         } catch (Exception e) {
             throw new IllegalStateException("Failed to generate auth token", e);
@@ -52,38 +90,179 @@ public class AuthTokenService {
         if (token == null || token.isBlank()) {
             throw new IllegalArgumentException("Token must not be blank");
         }
+        return verify(token, 0, token.length()).payload();
+    }
 
-        String[] parts = token.split("\\.", 2);
-        if (parts.length != 2) {
-            throw new IllegalArgumentException("Token format invalid");
+    /**
+     * Verifies the token occupying {@code source[start, end)}, e.g. an {@code Authorization} header
+     * past its scheme, without copying it out first.
+     */
+    public VerifiedToken verify(CharSequence source, int start, int end) {
+        TokenParseEvent profile = new TokenParseEvent();
+        profile.begin();
+        boolean valid = false;
+        try {
+            VerifiedToken token = verifyInPlace(source, start, end);
+            valid = true;
+            return token;
+        } finally {
+            if (profile.shouldCommit()) {
+                profile.valid = valid;
+                profile.commit();
+            }
         }
+    }
 
-        String payloadPart = parts[0];
-        String signaturePart = parts[1];
+    private VerifiedToken verifyInPlace(CharSequence source, int start, int end) {
+        if (end - start > MAX_TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Token too long");
+        }
+        int dot = indexOf(source, '.', start, end);
+        if (dot <= start || dot >= end - 1) {
+            throw new IllegalArgumentException("Token format invalid");
+        }
+        Buffers buf = buffers.get();
 
-        byte[] expectedSignature = sign(payloadPart);
-        byte[] providedSignature = Base64.getUrlDecoder().decode(signaturePart);
+        int filled = 0;
+        for (int i = start; i < dot; i++) {
+            char c = source.charAt(i);
+            if (c >= 128 || BASE64_URL_VALUES[c] < 0) {
+                buf.mac.reset();
+                throw new IllegalArgumentException("Token format invalid");
+            }
+            buf.chunk[filled++] = (byte) c;
+            if (filled == CHUNK_SIZE) {
+                buf.mac.update(buf.chunk, 0, filled);
+                filled = 0;
+            }
+        }
+        buf.mac.update(buf.chunk, 0, filled);
+        try {
+            buf.mac.doFinal(buf.expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("Failed to sign auth token", e);
+        }
 
-        if (!MessageDigestHelper.isEqual(expectedSignature, providedSignature)) {
+        int signatureLength = decode(source, dot + 1, end, buf.provided);
+        if (signatureLength != SIGNATURE_LENGTH || !constantTimeEquals(buf.expected, buf.provided)) {
             throw new IllegalArgumentException("Token signature invalid");
         }
 
+        int slot = slot(buf.provided);
+        VerifiedToken cached = verified.get(slot);
+        if (cached != null && cached.hasSignature(buf.provided, SIGNATURE_LENGTH)) {
+            return cached;
+        }
+        TokenPayload payload = readPayload(source, start, dot);
+        VerifiedToken token = new VerifiedToken(
+            Arrays.copyOf(buf.provided, SIGNATURE_LENGTH),
+            payload,
+            authorities.computeIfAbsent(payload.roles(), roles -> roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList()));
+        verified.set(slot, token);
+        return token;
+    }
+
+    private TokenPayload readPayload(CharSequence source, int start, int end) {
+        byte[] json = new byte[(end - start) / 4 * 3 + 2];
+        int length = decode(source, start, end, json);
+        if (length < 0) {
+            throw new IllegalArgumentException("Token payload invalid");
+        }
         try {
-            byte[] payloadBytes = Base64.getUrlDecoder().decode(payloadPart);
-            return objectMapper.readValue(payloadBytes, TokenPayload.class);
+            TokenPayload payload = objectMapper.readValue(json, 0, length, TokenPayload.class);
+            if (payload.email() == null || payload.roles() == null) {
+                throw new IllegalArgumentException("Token payload incomplete");
+            }
+            // Cached and shared across requests, so the roles list must not be mutable.
+            return new TokenPayload(payload.email(), payload.displayName(), List.copyOf(payload.roles()));
         } catch (Exception e) {
             throw new IllegalArgumentException("Token payload invalid", e);
         }
     }
 
-    private byte[] sign(String data) {
+    private int slot(byte[] signature) {
+        int hash = (signature[0] & 0xff) | (signature[1] & 0xff) << 8 | (signature[2] & 0xff) << 16 | signature[3] << 24;
+        return hash & (verified.length() - 1);
+    }
+
+    /**
+     * Decodes unpadded (or padded) base64url into {@code target}; returns the byte count, or -1 when
+     * the input is not canonical base64url (including non-zero trailing bits) or does not fit.
+     */
+    private static int decode(CharSequence source, int start, int end, byte[] target) {
+        while (end > start && source.charAt(end - 1) == '=') {
+            end--;
+        }
+        int chars = end - start;
+        if (chars % 4 == 1) {
+            return -1;
+        }
+        int length = chars / 4 * 3 + Math.max(chars % 4 - 1, 0);
+        if (length > target.length) {
+            return -1;
+        }
+        int bits = 0;
+        int bitCount = 0;
+        int out = 0;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64_URL_VALUES[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = bits << 6 | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[out++] = (byte) (bits >> bitCount);
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+        return bits == 0 ? out : -1;
+    }
+
+    private static boolean constantTimeEquals(byte[] expected, byte[] provided) {
+        int result = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            result |= expected[i] ^ provided[i];
+        }
+        return result == 0;
+    }
+
+    private static int indexOf(CharSequence source, char ch, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (source.charAt(i) == ch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Mac newMac() {
         try {
             Mac mac = Mac.getInstance(HMAC_ALGORITHM);
             mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
-            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+            return mac;
         } catch (GeneralSecurityException e) {
-            throw new IllegalStateException("Failed to sign auth token", e);
+            throw new IllegalStateException("Failed to initialise token signer", e);
         }
     }
-}
 
+    private Buffers newBuffers() {
+        return new Buffers(newMac());
+    }
+
+    private static final class Buffers {
+
+        private final Mac mac;
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final byte[] provided = new byte[SIGNATURE_LENGTH + 3];
+
+        private Buffers(Mac mac) {
+            this.mac = mac;
+        }
+    }
+}
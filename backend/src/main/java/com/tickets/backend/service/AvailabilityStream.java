@@ -0,0 +1,205 @@
+package com.tickets.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tickets.backend.dto.event.AvailabilityUpdate;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.projection.EventAvailabilityView;
+import com.tickets.backend.service.exception.EventNotFoundException;
+import com.tickets.backend.service.model.EventCatalogChanged;
+import com.tickets.backend.service.model.TicketsSold;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes ticket availability to Server-Sent Event subscribers. Committed changes only mark an event
+ * dirty; a flush every {@code availability.flush-interval} reads all dirty events in one query and
+ * sends each changed value once, so subscribers see at most one update per interval however many
+ * purchases land in it. Connections are held by async servlet requests and written from virtual
+ * threads, so idle subscribers cost no platform thread; each subscriber has a single writer that
+ * keeps only its newest unsent frame, so a slow client can lag but never sees an older count after
+ * a newer one.
+ */
+@Component
+public class AvailabilityStream {
+
+    static final String EVENT_NAME = "availability";
+
+    private final EventRepository eventRepository;
+    private final ObjectWriter writer;
+    private final Duration streamTimeout;
+    private final ConcurrentMap<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AvailabilityStream(EventRepository eventRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${availability.stream-timeout:PT30M}") Duration streamTimeout) {
+        this.eventRepository = eventRepository;
+        this.writer = objectMapper.writer();
+        this.streamTimeout = streamTimeout;
+    }
+
+    public SseEmitter subscribe(UUID eventId) {
+        AvailabilityUpdate current = eventRepository.findAvailability(List.of(eventId)).stream()
+            .findFirst()
+            .map(AvailabilityUpdate::from)
+            .orElseThrow(() -> new EventNotFoundException(eventId));
+
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+        subscriber.sender.offer(availabilityFrame(current));
+        Channel channel = channels.compute(eventId, (id, existing) -> {
+            Channel target = existing != null ? existing : new Channel(current);
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(eventId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(eventId, subscriber));
+        emitter.onError(error -> unsubscribe(eventId, subscriber));
+        if (!current.equals(channel.last)) {
+            // Either value may be the older one; forget it so the next flush sends the re-read count
+            // to everyone instead of deduplicating it away.
+            channel.last = null;
+            channel.dirty.set(true);
+        }
+        return emitter;
+    }
+
+    public int subscriberCount(UUID eventId) {
+        Channel channel = channels.get(eventId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(EventCatalogChanged change) {
+        markDirty(change.eventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketsSold(TicketsSold sold) {
+        markDirty(sold.eventId());
+    }
+
+    private void markDirty(UUID eventId) {
+        Channel channel = channels.get(eventId);
+        if (channel != null) {
+            channel.dirty.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${availability.flush-interval:PT0.25S}")
+    public void flush() {
+        List<UUID> dirty = new ArrayList<>();
+        channels.forEach((eventId, channel) -> {
+            if (channel.dirty.getAndSet(false)) {
+                dirty.add(eventId);
+            }
+        });
+        if (dirty.isEmpty()) {
+            return;
+        }
+        for (EventAvailabilityView view : eventRepository.findAvailability(dirty)) {
+            Channel channel = channels.get(view.getId());
+            AvailabilityUpdate update = AvailabilityUpdate.from(view);
+            if (channel == null || update.equals(channel.last)) {
+                continue;
+            }
+            channel.last = update;
+            Set<DataWithMediaType> frame = availabilityFrame(update);
+            channel.subscribers.forEach(subscriber -> subscriber.sender.offer(frame));
+        }
+    }
+
+    /**
+     * Changes committed by other nodes publish no local event; re-reading subscribed events on this
+     * interval bounds how long their subscribers lag behind.
+     */
+    @Scheduled(fixedDelayString = "${availability.resync-interval:PT5S}")
+    public void resync() {
+        channels.values().forEach(channel -> channel.dirty.set(true));
+    }
+
+    @Scheduled(fixedRateString = "${availability.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        for (Channel channel : channels.values()) {
+            channel.subscribers.forEach(subscriber -> subscriber.sender.offerIfEmpty(frame));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Channel channel : channels.values()) {
+            channel.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        }
+        channels.clear();
+        senders.shutdown();
+    }
+
+    private Set<DataWithMediaType> availabilityFrame(AvailabilityUpdate update) {
+        try {
+            return SseEmitter.event().name(EVENT_NAME).data(writer.writeValueAsString(update)).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize availability update", e);
+        }
+    }
+
+    private void unsubscribe(UUID eventId, Subscriber subscriber) {
+        channels.computeIfPresent(eventId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private final class Subscriber {
+
+        private final UUID eventId;
+        private final SseEmitter emitter;
+        private final CoalescingSender<Set<DataWithMediaType>> sender;
+
+        private Subscriber(UUID eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+            this.sender = new CoalescingSender<>(senders, this::send);
+        }
+
+        private boolean send(Set<DataWithMediaType> frame) {
+            try {
+                emitter.send(frame);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(eventId, this);
+                return false;
+            }
+        }
+    }
+
+    private static final class Channel {
+
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private volatile AvailabilityUpdate last;
+
+        private Channel(AvailabilityUpdate last) {
+            this.last = last;
+        }
+    }
+}
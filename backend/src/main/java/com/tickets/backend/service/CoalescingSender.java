@@ -0,0 +1,59 @@
+package com.tickets.backend.service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Single writer for one consumer: values are handed to the sink by at most one task at a time, in
+ * the order they were offered. A value offered while another is still waiting replaces it, so a slow
+ * consumer gets the newest value instead of a backlog, and never an older value after a newer one.
+ * Once the sink reports the consumer gone, further offers are dropped.
+ */
+final class CoalescingSender<T> {
+
+    private final Executor executor;
+    private final Predicate<T> sink;
+    private final AtomicReference<T> pending = new AtomicReference<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    CoalescingSender(Executor executor, Predicate<T> sink) {
+        this.executor = executor;
+        this.sink = sink;
+    }
+
+    void offer(T value) {
+        pending.set(value);
+        schedule();
+    }
+
+    /**
+     * Offers a value only when nothing is waiting, for frames such as heartbeats that must not
+     * displace real data.
+     */
+    void offerIfEmpty(T value) {
+        if (pending.compareAndSet(null, value)) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            T value;
+            while ((value = pending.getAndSet(null)) != null) {
+                if (!sink.test(value)) {
+                    // Leave draining set so a closed consumer is never scheduled again.
+                    return;
+                }
+            }
+            draining.set(false);
+        } while (pending.get() != null && draining.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,105 @@
+package com.tickets.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tickets.backend.dto.event.EventResponse;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.service.model.EventCatalogChanged;
+import com.tickets.backend.service.model.EventCatalogSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory read model of the public catalog: upcoming events with venue names resolved, plus the
+ * serialized JSON and its ETag. The snapshot is rebuilt on the first read after an event is edited,
+ * after the earliest listed event starts, or after {@code catalog.max-staleness} (changes made by
+ * other nodes, and sold counts, which change on every purchase, are only picked up by the latter).
+ * One thread rebuilds at a time; while it does, every other reader keeps getting the previous
+ * snapshot instead of queueing behind the rebuild query. Only the very first build makes readers
+ * wait.
+ */
+@Component
+public class EventCatalog {
+
+    private final EventRepository eventRepository;
+    private final ObjectWriter writer;
+    private final Duration maxStaleness;
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock rebuilding = new ReentrantLock();
+
+    private volatile EventCatalogSnapshot snapshot;
+
+    public EventCatalog(EventRepository eventRepository,
+                        ObjectMapper objectMapper,
+                        @Value("${catalog.max-staleness:PT5S}") Duration maxStaleness) {
+        this.eventRepository = eventRepository;
+        this.writer = objectMapper.writer().without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.maxStaleness = maxStaleness;
+    }
+
+    public EventCatalogSnapshot snapshot() {
+        EventCatalogSnapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        if (current == null) {
+            rebuilding.lock();
+        } else if (!rebuilding.tryLock()) {
+            return current;
+        }
+        try {
+            EventCatalogSnapshot latest = snapshot;
+            return isFresh(latest) ? latest : rebuild();
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(EventCatalogChanged change) {
+        version.incrementAndGet();
+    }
+
+    private boolean isFresh(EventCatalogSnapshot current) {
+        return current != null
+            && current.version() == version.get()
+            && Instant.now().isBefore(current.validUntil());
+    }
+
+    private EventCatalogSnapshot rebuild() {
+        long builtVersion = version.get();
+        Instant now = Instant.now();
+        List<EventResponse> events = eventRepository.findUpcoming(OffsetDateTime.now()).stream()
+            .map(EventResponse::fromModel)
+            .toList();
+        byte[] json = serialize(events);
+        Instant validUntil = now.plus(maxStaleness);
+        if (!events.isEmpty()) {
+            Instant firstStart = events.getFirst().startsAt().toInstant();
+            if (firstStart.isBefore(validUntil)) {
+                validUntil = firstStart;
+            }
+        }
+        EventCatalogSnapshot rebuilt = new EventCatalogSnapshot(builtVersion, events, json, ResourceEtags.of(json), validUntil);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private byte[] serialize(List<EventResponse> events) {
+        try {
+            return writer.writeValueAsBytes(events);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event catalog", e);
+        }
+    }
+}
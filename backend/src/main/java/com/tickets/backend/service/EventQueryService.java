@@ -0,0 +1,79 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.dto.event.EventPageResponse;
+import com.tickets.backend.dto.event.EventResponse;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.projection.EventListingView;
+import com.tickets.backend.service.model.EventCursor;
+import com.tickets.backend.service.model.EventFilter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Service
+public class EventQueryService {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final OffsetDateTime END_OF_TIME = OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final EventRepository eventRepository;
+
+    public EventQueryService(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Seeks the next page after {@code cursor} in (startsAt, id) order, never from before
+     * {@code from} (which defaults to now). Unset filters are bound to open bounds rather than
+     * optional predicates so both queries keep a single plan that walks the (starts_at, id) or
+     * (venue_id, starts_at, id) index.
+     */
+    @Transactional(readOnly = true)
+    public EventPageResponse page(EventFilter filter, String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        OffsetDateTime from = filter.from() != null ? filter.from() : OffsetDateTime.now();
+        OffsetDateTime before = filter.to() != null ? filter.to() : END_OF_TIME;
+        if (!before.isAfter(from)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        int minPrice = filter.minPriceCents() != null ? filter.minPriceCents() : 0;
+        int maxPrice = filter.maxPriceCents() != null ? filter.maxPriceCents() : Integer.MAX_VALUE;
+        if (minPrice < 0 || maxPrice < minPrice) {
+            throw new IllegalArgumentException("price range is invalid");
+        }
+        int minAvailable = filter.availableOnly() ? 1 : 0;
+        EventCursor after = cursor == null || cursor.isBlank()
+            ? EventCursor.startingAt(from)
+            : EventCursor.decode(cursor);
+        if (after.startsAt().isBefore(from)) {
+            // A stale or crafted cursor must not reach back past the lower bound of the range.
+            after = EventCursor.startingAt(from);
+        }
+        PageRequest window = PageRequest.of(0, limit + 1);
+
+        List<EventListingView> rows = filter.venueId() != null
+            ? eventRepository.findVenueListingsAfter(filter.venueId(), after.startsAt(), after.id(), before,
+                minPrice, maxPrice, minAvailable, window)
+            : eventRepository.findListingsAfter(after.startsAt(), after.id(), before,
+                minPrice, maxPrice, minAvailable, window);
+
+        boolean hasMore = rows.size() > limit;
+        List<EventListingView> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            EventListingView last = page.getLast();
+            nextCursor = new EventCursor(last.getStartsAt(), last.getId()).encode();
+        }
+        List<EventResponse> items = page.stream()
+            .map(EventResponse::fromView)
+            .toList();
+        return new EventPageResponse(items, nextCursor);
+    }
+}
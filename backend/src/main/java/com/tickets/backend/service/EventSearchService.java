@@ -0,0 +1,106 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.dto.event.EventResponse;
+import com.tickets.backend.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Ranked full-text search over upcoming events. The last term is matched as a prefix so the same
+ * endpoint serves typeahead; results for recent queries are kept in a small LRU cache for
+ * {@code search.cache-ttl}, which absorbs the short, popular prefixes that match the most rows. A
+ * cache hit touches no connection: only the repository call runs in a (read-only) transaction. On a
+ * miss, at most {@code search.rank-candidates} matches are ranked.
+ */
+@Service
+public class EventSearchService {
+
+    public static final int MAX_LIMIT = 50;
+    static final int MIN_QUERY_LENGTH = 2;
+
+    private static final Pattern TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private final EventRepository eventRepository;
+    private final Duration cacheTtl;
+    private final int rankCandidates;
+    private final Map<String, CachedResult> cache;
+
+    public EventSearchService(EventRepository eventRepository,
+                              @Value("${search.cache-ttl:PT5S}") Duration cacheTtl,
+                              @Value("${search.cache-size:1024}") int cacheSize,
+                              @Value("${search.rank-candidates:500}") int rankCandidates) {
+        this.eventRepository = eventRepository;
+        this.cacheTtl = cacheTtl;
+        this.rankCandidates = rankCandidates;
+        this.cache = new LinkedHashMap<>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public List<EventResponse> search(String query, int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        String tsQuery = toPrefixQuery(query);
+        if (tsQuery == null) {
+            return List.of();
+        }
+        String key = tsQuery + "#" + limit;
+        Instant now = Instant.now();
+        CachedResult cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            return cached.results();
+        }
+        List<EventResponse> results = eventRepository.search(tsQuery, OffsetDateTime.now(), rankCandidates, limit).stream()
+            .map(EventResponse::fromView)
+            .toList();
+        synchronized (cache) {
+            cache.put(key, new CachedResult(results, now.plus(cacheTtl)));
+        }
+        return results;
+    }
+
+    /**
+     * Turns free text into a {@code to_tsquery} expression of AND-ed terms with the last one as a
+     * prefix. Only letters and digits survive, so user input can never produce a syntax error.
+     * Returns {@code null} when the input is too short to be selective.
+     */
+    static String toPrefixQuery(String query) {
+        if (query == null) {
+            return null;
+        }
+        Matcher matcher = TERM.matcher(query.toLowerCase(Locale.ROOT));
+        StringBuilder tsQuery = new StringBuilder();
+        int length = 0;
+        while (matcher.find()) {
+            if (!tsQuery.isEmpty()) {
+                tsQuery.append(" & ");
+            }
+            tsQuery.append(matcher.group());
+            length += matcher.group().length();
+        }
+        if (length < MIN_QUERY_LENGTH) {
+            return null;
+        }
+        return tsQuery.append(":*").toString();
+    }
+
+    private record CachedResult(List<EventResponse> results, Instant expiresAt) {
+    }
+}
@@ -6,16 +6,28 @@ import com.tickets.backend.model.TicketStatus;
 import com.tickets.backend.model.Venue;
 import com.tickets.backend.repository.EventRepository;
 import com.tickets.backend.repository.TicketRepository;
+import com.tickets.backend.repository.projection.ResourceVersionView;
+import com.tickets.backend.service.PurchaseMetrics.Stage;
 import com.tickets.backend.service.exception.EventNotFoundException;
+import com.tickets.backend.service.jfr.ReservationLockEvent;
+import com.tickets.backend.service.model.EventCatalogChanged;
+import com.tickets.backend.service.model.TicketsSold;
 import com.tickets.backend.util.TicketCodeGenerator;
+import com.tickets.backend.util.UuidV7Generator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class EventService {
@@ -23,32 +35,66 @@ public class EventService {
     private final EventRepository eventRepository;
     private final TicketRepository ticketRepository;
     private final VenueService venueService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PurchaseMetrics purchaseMetrics;
+    private final LockContentionTracker lockContentionTracker;
 
     public EventService(EventRepository eventRepository,
                         TicketRepository ticketRepository,
-                        VenueService venueService) {
+                        VenueService venueService,
+                        ApplicationEventPublisher eventPublisher,
+                        PurchaseMetrics purchaseMetrics,
+                        LockContentionTracker lockContentionTracker) {
         this.eventRepository = eventRepository;
         this.ticketRepository = ticketRepository;
         this.venueService = venueService;
+        this.eventPublisher = eventPublisher;
+        this.purchaseMetrics = purchaseMetrics;
+        this.lockContentionTracker = lockContentionTracker;
     }
 
+    @Transactional(readOnly = true)
     public List<Event> listAll() {
         return eventRepository.findAllWithVenue();
     }
 
+    @Transactional(readOnly = true)
     public List<Event> listUpcoming() {
         return eventRepository.findUpcoming(OffsetDateTime.now());
     }
 
+    @Transactional(readOnly = true)
     public List<Event> listByVenue(UUID venueId) {
         return eventRepository.findByVenueId(venueId);
     }
 
+    @Transactional(readOnly = true)
     public Event getById(UUID eventId) {
-        return eventRepository.findById(eventId)
+        return eventRepository.findWithVenueById(eventId)
             .orElseThrow(() -> new EventNotFoundException(eventId));
     }
 
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(UUID eventId) {
+        return eventRepository.findVersionById(eventId);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersionView getVenueEventsVersion(UUID venueId) {
+        return eventRepository.findVersionByVenueId(venueId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Event> getAllById(Collection<UUID> eventIds) {
+        List<Event> events = eventRepository.findAllById(eventIds);
+        if (events.size() < eventIds.size()) {
+            Set<UUID> found = events.stream().map(Event::getId).collect(Collectors.toSet());
+            UUID missing = eventIds.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+            throw new EventNotFoundException(missing);
+        }
+        return events;
+    }
+
     @Transactional
     public Event createEvent(UUID venueId,
                              String title,
@@ -65,7 +111,7 @@ public class EventService {
         }
 
         Event event = Event.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7Generator.generate())
             .venue(venue)
             .title(title)
             .description(description)
@@ -74,7 +120,9 @@ public class EventService {
             .faceValueCents(faceValueCents)
             .build();
 
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        eventPublisher.publishEvent(new EventCatalogChanged(saved.getId(), venueId));
+        return saved;
     }
 
     @Transactional
@@ -86,7 +134,7 @@ public class EventService {
         List<Ticket> generated = new ArrayList<>(quantity);
         for (int i = 0; i < quantity; i++) {
             Ticket ticket = Ticket.builder()
-                .id(UUID.randomUUID())
+                .id(UuidV7Generator.generate())
                 .event(event)
                 .status(TicketStatus.AVAILABLE)
                 .code(TicketCodeGenerator.generateCode())
@@ -95,27 +143,39 @@ public class EventService {
         }
         ticketRepository.saveAll(generated);
         event.setTicketsTotal(event.getTicketsTotal() + quantity);
+        event.markChanged();
+        eventPublisher.publishEvent(new EventCatalogChanged(eventId, event.getVenue().getId()));
         return generated;
     }
 
     @Transactional
     public void markTicketsSold(Event event, int quantity) {
         event.setTicketsSold(event.getTicketsSold() + quantity);
+        event.markChanged();
         eventRepository.save(event);
+        eventPublisher.publishEvent(new TicketsSold(event.getId(), event.getVenue().getId(), quantity));
     }
 
     @Transactional
     public List<Ticket> reserveTickets(UUID eventId, int quantity) {
         Event event = getById(eventId);
-        List<Ticket> tickets = ticketRepository.findTicketsForUpdate(
-            eventId,
-            TicketStatus.AVAILABLE,
-            PageRequest.of(0, quantity)
-        );
+        ReservationLockEvent profile = new ReservationLockEvent();
+        profile.begin();
+        List<Ticket> tickets = purchaseMetrics.record(Stage.LOCK_WAIT,
+            () -> ticketRepository.findAvailableForUpdate(eventId, PageRequest.of(0, quantity)),
+            waitNanos -> lockContentionTracker.add(eventId, waitNanos));
+        if (profile.shouldCommit()) {
+            profile.eventId = eventId.toString();
+            profile.requested = quantity;
+            profile.locked = tickets.size();
+            profile.commit();
+        }
         if (tickets.size() < quantity) {
             throw new IllegalStateException("Insufficient tickets available");
         }
-        tickets.forEach(ticket -> ticket.setStatus(TicketStatus.RESERVED));
+        UUID reservationToken = UuidV7Generator.generate();
+        Instant reservedAt = Instant.now();
+        tickets.forEach(ticket -> ticket.reserve(reservationToken, reservedAt));
         ticketRepository.saveAll(tickets);
         return tickets;
     }
@@ -0,0 +1,73 @@
+package com.tickets.backend.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates time spent in the row-locking ticket query per event, as measured by the
+ * {@code LOCK_WAIT} purchase stage; under contention that time is almost entirely lock wait.
+ * Totals cover the current and the previous {@code diagnostics.contention-window}, so the ranking
+ * follows load as it moves between events without forgetting a hot event the moment a window
+ * rolls over.
+ */
+@Component
+public class LockContentionTracker {
+
+    private volatile ConcurrentMap<UUID, Stats> current = new ConcurrentHashMap<>();
+    private volatile Map<UUID, Stats> previous = Map.of();
+
+    public void add(UUID eventId, long waitNanos) {
+        current.computeIfAbsent(eventId, id -> new Stats()).add(waitNanos);
+    }
+
+    @Scheduled(fixedRateString = "${diagnostics.contention-window:PT5M}")
+    public void rotate() {
+        previous = current;
+        current = new ConcurrentHashMap<>();
+    }
+
+    public List<Entry> top(int limit) {
+        Map<UUID, Entry> merged = new HashMap<>();
+        previous.forEach((eventId, stats) -> merged.merge(eventId, stats.snapshot(eventId), Entry::plus));
+        current.forEach((eventId, stats) -> merged.merge(eventId, stats.snapshot(eventId), Entry::plus));
+        return merged.values().stream()
+            .sorted(Comparator.comparingLong(Entry::totalWaitNanos).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    public record Entry(UUID eventId, long acquisitions, long totalWaitNanos, long maxWaitNanos) {
+
+        private Entry plus(Entry other) {
+            return new Entry(eventId, acquisitions + other.acquisitions,
+                totalWaitNanos + other.totalWaitNanos, Math.max(maxWaitNanos, other.maxWaitNanos));
+        }
+    }
+
+    private static final class Stats {
+
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(long waitNanos) {
+            acquisitions.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulate(waitNanos);
+        }
+
+        private Entry snapshot(UUID eventId) {
+            return new Entry(eventId, acquisitions.sum(), totalWaitNanos.sum(), maxWaitNanos.get());
+        }
+    }
+}
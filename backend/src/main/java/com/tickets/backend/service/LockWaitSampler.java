@@ -0,0 +1,134 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.dto.diagnostics.LockWaiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Samples sessions of this database that are blocked on a lock. Each sample refreshes the
+ * {@code db.lock.waiting.sessions} and {@code db.lock.wait.oldest} gauges; once a tracked wait is
+ * no longer seen, its last observed duration goes into the {@code db.lock.wait} timer tagged with
+ * the wait event (tuple, transactionid, relation, ...), so resolution is one sample interval.
+ */
+@Component
+public class LockWaitSampler {
+
+    private static final Logger log = LoggerFactory.getLogger(LockWaitSampler.class);
+
+    /**
+     * One row per ungranted lock. {@code pg_locks.waitstart} (PostgreSQL 14+) is when this lock wait
+     * began, unlike {@code query_start}, which also counts the statement's work before it blocked
+     * and stays fixed across every lock a long statement waits on. It is briefly null right after
+     * a wait starts; such waiters are picked up by the next sample.
+     */
+    static final String WAITERS_QUERY = """
+        select a.pid,
+               a.wait_event,
+               l.waitstart,
+               extract(epoch from now() - l.waitstart) * 1000 as waiting_ms,
+               pg_blocking_pids(a.pid) as blocked_by,
+               left(a.query, 200) as query
+        from pg_stat_activity a
+        join pg_locks l on l.pid = a.pid and not l.granted
+        where a.wait_event_type = 'Lock'
+          and a.datname = current_database()
+          and l.waitstart is not null
+        order by l.waitstart
+        limit 50
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final Map<WaitKey, LockWaiter> tracked = new HashMap<>();
+    private volatile List<LockWaiter> lastSample = List.of();
+
+    public LockWaitSampler(JdbcTemplate jdbcTemplate,
+                           MeterRegistry registry,
+                           @Value("${diagnostics.lock-sampling:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.registry = registry;
+        this.enabled = enabled;
+        Gauge.builder("db.lock.waiting.sessions", this, sampler -> sampler.lastSample.size())
+            .description("Sessions blocked on a lock at the last sample")
+            .register(registry);
+        Gauge.builder("db.lock.wait.oldest", this, LockWaitSampler::oldestWaitSeconds)
+            .description("Longest current lock wait at the last sample")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+
+    public List<LockWaiter> currentWaiters() {
+        return lastSample;
+    }
+
+    @Scheduled(fixedDelayString = "${diagnostics.lock-sample-interval:PT1S}")
+    public synchronized void sample() {
+        if (!enabled) {
+            return;
+        }
+        Map<WaitKey, LockWaiter> seen = new HashMap<>();
+        try {
+            jdbcTemplate.query(WAITERS_QUERY, rs -> {
+                LockWaiter waiter = new LockWaiter(
+                    rs.getInt("pid"),
+                    rs.getString("wait_event"),
+                    rs.getLong("waiting_ms"),
+                    toList(rs.getArray("blocked_by")),
+                    rs.getString("query"));
+                seen.put(new WaitKey(waiter.pid(), rs.getObject("waitstart", OffsetDateTime.class)), waiter);
+            });
+        } catch (DataAccessException e) {
+            log.debug("Lock wait sample failed", e);
+            return;
+        }
+        tracked.forEach((key, waiter) -> {
+            if (!seen.containsKey(key)) {
+                Timer.builder("db.lock.wait")
+                    .description("Observed lock waits, sampled from pg_locks")
+                    .tag("wait_event", waiter.waitEvent() != null ? waiter.waitEvent() : "unknown")
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(Duration.ofMillis(waiter.waitingMillis()));
+            }
+        });
+        tracked.clear();
+        tracked.putAll(seen);
+        lastSample = seen.values().stream()
+            .sorted(Comparator.comparingLong(LockWaiter::waitingMillis).reversed())
+            .toList();
+    }
+
+    private double oldestWaitSeconds() {
+        List<LockWaiter> sample = lastSample;
+        return sample.isEmpty() ? 0 : sample.getFirst().waitingMillis() / 1000.0;
+    }
+
+    private static List<Integer> toList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return Arrays.stream((Integer[]) array.getArray()).toList();
+    }
+
+    private record WaitKey(int pid, OffsetDateTime waitStart) {
+    }
+}
@@ -2,6 +2,7 @@ package com.tickets.backend.service;
 
 import com.tickets.backend.dto.payment.PaymentRequest;
 import com.tickets.backend.dto.payment.PaymentResponse;
+import com.tickets.backend.service.jfr.PaymentCallEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +11,15 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Charges through the payment service and approves offline when it is unreachable. During an outage
+ * every purchase takes the fallback, so the warning is sampled: at most one per
+ * {@code payment.fallback-warn-interval}, carrying the number of fallbacks since the previous one.
+ */
 @Component
 public class PaymentClient {
 
@@ -19,21 +27,31 @@ public class PaymentClient {
 
     private final RestClient restClient;
     private final String baseUrl;
+    private final long warnIntervalNanos;
+    private final AtomicLong nextWarnAt;
+    private final AtomicLong suppressedWarnings = new AtomicLong();
 
     @Autowired
     public PaymentClient(RestClient.Builder builder,
-                         @Value("${payment.base-url:http://localhost:9090}") String baseUrl) {
-        this(builder.baseUrl(baseUrl).build(), baseUrl);
+                         @Value("${payment.base-url:http://localhost:9090}") String baseUrl,
+                         @Value("${payment.fallback-warn-interval:PT15S}") Duration warnInterval) {
+        this(builder.baseUrl(baseUrl).build(), baseUrl, warnInterval);
     }
 
-    PaymentClient(RestClient restClient, String baseUrl) {
+    PaymentClient(RestClient restClient, String baseUrl, Duration warnInterval) {
         this.baseUrl = baseUrl;
         this.restClient = restClient;
+        this.warnIntervalNanos = warnInterval.toNanos();
+        this.nextWarnAt = new AtomicLong(System.nanoTime());
     }
 
     public PaymentResponse charge(PaymentRequest request) {
+        PaymentCallEvent profile = new PaymentCallEvent();
+        profile.begin();
+        PaymentResponse response = null;
+        boolean offline = false;
         try {
-            PaymentResponse response = restClient.post()
+            response = restClient.post()
                 .uri("/api/payments")
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(request)
@@ -44,8 +62,34 @@ public class PaymentClient {
             }
             return response;
         } catch (Exception ex) {
-            log.warn("Payment service unavailable at {} - falling back to offline approval", baseUrl, ex);
-            return PaymentResponse.success("offline-" + UUID.randomUUID());
+            warnFallback(ex);
+            offline = true;
+            response = PaymentResponse.success("offline-" + UUID.randomUUID());
+            return response;
+        } finally {
+            if (profile.shouldCommit()) {
+                profile.eventId = request.eventId() != null ? request.eventId().toString() : null;
+                profile.amountCents = request.amountCents();
+                profile.approved = response != null && response.success();
+                profile.offline = offline;
+                profile.commit();
+            }
+        }
+    }
+
+    long suppressedWarnings() {
+        return suppressedWarnings.get();
+    }
+
+    private void warnFallback(Exception ex) {
+        long now = System.nanoTime();
+        long next = nextWarnAt.get();
+        if (now - next >= 0 && nextWarnAt.compareAndSet(next, now + warnIntervalNanos)) {
+            log.warn("Payment service unavailable at {} - falling back to offline approval ({} more since last warning)",
+                baseUrl, suppressedWarnings.getAndSet(0), ex);
+        } else {
+            suppressedWarnings.incrementAndGet();
+            log.debug("Payment service unavailable at {} - falling back to offline approval: {}", baseUrl, ex.getMessage());
         }
     }
 }
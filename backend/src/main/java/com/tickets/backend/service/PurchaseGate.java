@@ -0,0 +1,73 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.service.exception.PurchasesSuspendedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for purchases during shutdown. Callers hold a {@link Permit} around the whole
+ * transactional purchase call; once the gate is closed new callers are turned away with
+ * {@link PurchasesSuspendedException} and {@link #awaitDrained} waits for the permits already
+ * handed out to be returned.
+ */
+@Component
+public class PurchaseGate {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Object drained = new Object();
+    private volatile boolean open = true;
+
+    public Permit enter() {
+        inFlight.incrementAndGet();
+        if (!open) {
+            exit();
+            throw new PurchasesSuspendedException();
+        }
+        return this::exit;
+    }
+
+    public void close() {
+        open = false;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Waits until no purchase is in flight or {@code timeout} passes; returns whether it drained.
+     */
+    public boolean awaitDrained(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (drained) {
+            while (inFlight.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                drained.wait(Math.max(1, remaining / 1_000_000));
+            }
+        }
+        return true;
+    }
+
+    private void exit() {
+        if (inFlight.decrementAndGet() == 0 && !open) {
+            synchronized (drained) {
+                drained.notifyAll();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
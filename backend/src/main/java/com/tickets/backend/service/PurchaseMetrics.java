@@ -0,0 +1,82 @@
+package com.tickets.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Per-stage latency of the purchase path, published as {@code purchase.stage} histograms tagged
+ * with the stage and its outcome. Timers are registered once up front so recording a stage costs no
+ * registry lookup; when tracing is active the Prometheus registry attaches the current trace id to
+ * slow samples as an exemplar.
+ */
+@Component
+public class PurchaseMetrics {
+
+    static final String STAGE_TIMER = "purchase.stage";
+
+    public enum Stage {
+        IDEMPOTENCY_LOOKUP,
+        RESERVE,
+        LOCK_WAIT,
+        PAYMENT,
+        TICKET_SAVE,
+        SALES_ROLLUP,
+        AUDIT
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> succeeded = new EnumMap<>(Stage.class);
+    private final Map<Stage, Timer> failed = new EnumMap<>(Stage.class);
+
+    public PurchaseMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            succeeded.put(stage, timer(stage, "success"));
+            failed.put(stage, timer(stage, "error"));
+        }
+    }
+
+    public <T> T record(Stage stage, Supplier<T> action) {
+        return record(stage, action, elapsedNanos -> {
+        });
+    }
+
+    /**
+     * Times {@code action} once and hands the same duration to {@code elapsed}, for callers that
+     * also aggregate it elsewhere (per-event lock contention).
+     */
+    public <T> T record(Stage stage, Supplier<T> action, LongConsumer elapsed) {
+        Timer.Sample sample = Timer.start(registry);
+        boolean success = false;
+        try {
+            T result = action.get();
+            success = true;
+            return result;
+        } finally {
+            elapsed.accept(sample.stop(success ? succeeded.get(stage) : failed.get(stage)));
+        }
+    }
+
+    public void record(Stage stage, Runnable action) {
+        record(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private Timer timer(Stage stage, String outcome) {
+        return Timer.builder(STAGE_TIMER)
+            .description("Time spent in one stage of a ticket purchase")
+            .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
@@ -5,36 +5,55 @@ import com.tickets.backend.dto.payment.PaymentResponse;
 import com.tickets.backend.model.Event;
 import com.tickets.backend.model.Purchase;
 import com.tickets.backend.model.Ticket;
-import com.tickets.backend.model.TicketStatus;
 import com.tickets.backend.model.User;
 import com.tickets.backend.repository.PurchaseRepository;
 import com.tickets.backend.repository.TicketRepository;
+import com.tickets.backend.service.PurchaseMetrics.Stage;
+import com.tickets.backend.service.jfr.PurchaseEvent;
+import com.tickets.backend.service.model.CartItem;
+import com.tickets.backend.service.model.CheckoutResult;
 import com.tickets.backend.service.model.PurchaseResult;
+import com.tickets.backend.util.UuidV7Generator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PurchaseService {
 
+    public static final int MAX_CART_EVENTS = 20;
+
     private final EventService eventService;
     private final TicketRepository ticketRepository;
     private final PurchaseRepository purchaseRepository;
     private final PaymentClient paymentClient;
     private final AuditService auditService;
+    private final SalesRollupService salesRollupService;
+    private final PurchaseMetrics metrics;
 
     public PurchaseService(EventService eventService,
                            TicketRepository ticketRepository,
                            PurchaseRepository purchaseRepository,
                            PaymentClient paymentClient,
-                           AuditService auditService) {
+                           AuditService auditService,
+                           SalesRollupService salesRollupService,
+                           PurchaseMetrics metrics) {
         this.eventService = eventService;
         this.ticketRepository = ticketRepository;
         this.purchaseRepository = purchaseRepository;
         this.paymentClient = paymentClient;
         this.auditService = auditService;
+        this.salesRollupService = salesRollupService;
+        this.metrics = metrics;
     }
 
     @Transactional
@@ -50,9 +69,25 @@ public class PurchaseService {
             throw new IllegalArgumentException("Idempotency key is required");
         }
 
-        return purchaseRepository.findByEventIdAndIdempotencyKey(eventId, idempotencyKey)
-            .map(existing -> new PurchaseResult(existing, ticketRepository.findByPurchaseId(existing.getId())))
-            .orElseGet(() -> performPurchase(user, eventId, quantity, paymentToken, idempotencyKey));
+        PurchaseEvent profile = new PurchaseEvent();
+        profile.begin();
+        String outcome = "error";
+        try {
+            Optional<Purchase> existing = metrics.record(Stage.IDEMPOTENCY_LOOKUP,
+                () -> purchaseRepository.findByEventIdAndIdempotencyKey(eventId, idempotencyKey));
+            PurchaseResult result = existing
+                .map(purchase -> new PurchaseResult(purchase, ticketRepository.findByPurchaseId(purchase.getId())))
+                .orElseGet(() -> performPurchase(user, eventId, quantity, paymentToken, idempotencyKey));
+            outcome = existing.isPresent() ? "replayed" : "success";
+            return result;
+        } finally {
+            if (profile.shouldCommit()) {
+                profile.eventId = eventId.toString();
+                profile.quantity = quantity;
+                profile.outcome = outcome;
+                profile.commit();
+            }
+        }
     }
 
     private PurchaseResult performPurchase(User user,
@@ -61,42 +96,176 @@ public class PurchaseService {
                                            String paymentToken,
                                            String idempotencyKey) {
         Event event = eventService.getById(eventId);
-        List<Ticket> reservedTickets = eventService.reserveTickets(eventId, quantity);
+        List<Ticket> reservedTickets = metrics.record(Stage.RESERVE, () -> eventService.reserveTickets(eventId, quantity));
         try {
             int totalAmount = event.getFaceValueCents() * quantity;
-            PaymentResponse payment = paymentClient.charge(new PaymentRequest(
+            PaymentResponse payment = metrics.record(Stage.PAYMENT, () -> paymentClient.charge(new PaymentRequest(
                 eventId,
                 user.getEmail(),
                 totalAmount,
                 quantity,
                 paymentToken
-            ));
+            )));
             if (!payment.success()) {
                 throw new IllegalStateException(payment.message() != null ? payment.message() : "Payment failed");
             }
 
-            Purchase purchase = purchaseRepository.save(Purchase.builder()
-                .id(UUID.randomUUID())
-                .event(event)
-                .user(user)
-                .quantity(quantity)
-                .totalAmountCents(totalAmount)
-                .paymentReference(payment.reference())
-                .idempotencyKey(idempotencyKey)
-                .build());
-
-            reservedTickets.forEach(ticket -> {
-                ticket.setStatus(TicketStatus.SOLD);
-                ticket.setPurchase(purchase);
+            Purchase purchase = metrics.record(Stage.TICKET_SAVE, () -> {
+                Purchase saved = purchaseRepository.save(Purchase.builder()
+                    .id(UuidV7Generator.generate())
+                    .event(event)
+                    .user(user)
+                    .quantity(quantity)
+                    .totalAmountCents(totalAmount)
+                    .paymentReference(payment.reference())
+                    .idempotencyKey(idempotencyKey)
+                    .build());
+                reservedTickets.forEach(ticket -> ticket.sell(saved));
+                ticketRepository.saveAll(reservedTickets);
+                eventService.markTicketsSold(event, quantity);
+                purchaseRepository.flush();
+                return saved;
             });
-            ticketRepository.saveAll(reservedTickets);
-            eventService.markTicketsSold(event, quantity);
-            auditService.log(user.getEmail(), "PURCHASE_CONFIRMED", "EVENT", eventId, "quantity=" + quantity);
+            metrics.record(Stage.SALES_ROLLUP, () -> salesRollupService.recordPurchase(purchase));
+            metrics.record(Stage.AUDIT,
+                () -> auditService.log(user.getEmail(), "PURCHASE_CONFIRMED", "EVENT", eventId, "quantity=" + quantity));
             return new PurchaseResult(purchase, reservedTickets);
         } catch (RuntimeException ex) {
-            reservedTickets.forEach(ticket -> ticket.setStatus(TicketStatus.AVAILABLE));
+            reservedTickets.forEach(Ticket::release);
             ticketRepository.saveAll(reservedTickets);
             throw ex;
         }
     }
+
+    /**
+     * Buys tickets for several events in one transaction with a single payment charge. Tickets are
+     * reserved event by event in ascending event id order, so concurrent carts that overlap take
+     * their row locks in the same order and cannot deadlock each other.
+     */
+    @Transactional
+    public CheckoutResult checkout(User user,
+                                   List<CartItem> items,
+                                   String paymentToken,
+                                   String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key is required");
+        }
+        Map<UUID, Integer> quantities = mergeCart(items);
+
+        List<Purchase> existing = purchaseRepository.findByUserIdAndIdempotencyKey(user.getId(), idempotencyKey);
+        if (!existing.isEmpty()) {
+            requireSameCart(existing, quantities);
+            return replayCheckout(existing);
+        }
+
+        Map<UUID, Event> events = eventService.getAllById(quantities.keySet()).stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+        Map<UUID, List<Ticket>> reserved = new TreeMap<>();
+        try {
+            int totalAmount = 0;
+            int totalQuantity = 0;
+            for (Map.Entry<UUID, Integer> line : quantities.entrySet()) {
+                reserved.put(line.getKey(), eventService.reserveTickets(line.getKey(), line.getValue()));
+                totalAmount = Math.addExact(totalAmount,
+                    Math.multiplyExact(events.get(line.getKey()).getFaceValueCents(), line.getValue()));
+                totalQuantity += line.getValue();
+            }
+            PaymentResponse payment = paymentClient.charge(new PaymentRequest(
+                null,
+                user.getEmail(),
+                totalAmount,
+                totalQuantity,
+                paymentToken
+            ));
+            if (!payment.success()) {
+                throw new IllegalStateException(payment.message() != null ? payment.message() : "Payment failed");
+            }
+
+            List<Purchase> purchases = new ArrayList<>(quantities.size());
+            List<Ticket> soldTickets = new ArrayList<>(totalQuantity);
+            List<PurchaseResult> results = new ArrayList<>(quantities.size());
+            for (Map.Entry<UUID, Integer> line : quantities.entrySet()) {
+                Event event = events.get(line.getKey());
+                Purchase purchase = Purchase.builder()
+                    .id(UuidV7Generator.generate())
+                    .event(event)
+                    .user(user)
+                    .quantity(line.getValue())
+                    .totalAmountCents(event.getFaceValueCents() * line.getValue())
+                    .paymentReference(payment.reference())
+                    .idempotencyKey(idempotencyKey)
+                    .build();
+                List<Ticket> tickets = reserved.get(line.getKey());
+                tickets.forEach(ticket -> ticket.sell(purchase));
+                purchases.add(purchase);
+                soldTickets.addAll(tickets);
+                results.add(new PurchaseResult(purchase, tickets));
+            }
+            purchaseRepository.saveAll(purchases);
+            ticketRepository.saveAll(soldTickets);
+            for (Purchase purchase : purchases) {
+                eventService.markTicketsSold(purchase.getEvent(), purchase.getQuantity());
+                salesRollupService.recordPurchase(purchase);
+            }
+            auditService.log(user.getEmail(), "CART_PURCHASE_CONFIRMED", "PAYMENT", purchases.getFirst().getId(),
+                "events=" + quantities.size() + ",quantity=" + totalQuantity + ",reference=" + payment.reference());
+            return new CheckoutResult(payment.reference(), totalAmount, results);
+        } catch (ArithmeticException ex) {
+            releaseReservations(reserved);
+            throw new IllegalArgumentException("Cart total is too large", ex);
+        } catch (RuntimeException ex) {
+            releaseReservations(reserved);
+            throw ex;
+        }
+    }
+
+    private Map<UUID, Integer> mergeCart(List<CartItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Cart must contain at least one item");
+        }
+        Map<UUID, Integer> quantities = new TreeMap<>();
+        for (CartItem item : items) {
+            if (item.eventId() == null || item.quantity() <= 0) {
+                throw new IllegalArgumentException("Each cart item needs an event and a positive quantity");
+            }
+            quantities.merge(item.eventId(), item.quantity(), Integer::sum);
+            if (quantities.get(item.eventId()) <= 0) {
+                throw new IllegalArgumentException("Cart quantity is too large");
+            }
+        }
+        if (quantities.size() > MAX_CART_EVENTS) {
+            throw new IllegalArgumentException("Cart may contain at most " + MAX_CART_EVENTS + " events");
+        }
+        return quantities;
+    }
+
+    private static void requireSameCart(List<Purchase> purchases, Map<UUID, Integer> quantities) {
+        Map<UUID, Integer> purchased = purchases.stream()
+            .collect(Collectors.toMap(purchase -> purchase.getEvent().getId(), Purchase::getQuantity,
+                Integer::sum, TreeMap::new));
+        if (!purchased.equals(quantities)) {
+            throw new IllegalStateException("Idempotency key was already used for a different cart");
+        }
+    }
+
+    private CheckoutResult replayCheckout(List<Purchase> purchases) {
+        Map<UUID, List<Ticket>> tickets = ticketRepository.findByPurchaseIdIn(
+                purchases.stream().map(Purchase::getId).toList()).stream()
+            .collect(Collectors.groupingBy(ticket -> ticket.getPurchase().getId()));
+        List<PurchaseResult> results = purchases.stream()
+            .sorted(Comparator.comparing(purchase -> purchase.getEvent().getId()))
+            .map(purchase -> new PurchaseResult(purchase, tickets.getOrDefault(purchase.getId(), List.of())))
+            .toList();
+        int total = purchases.stream().mapToInt(Purchase::getTotalAmountCents).sum();
+        return new CheckoutResult(purchases.getFirst().getPaymentReference(), total, results);
+    }
+
+    private void releaseReservations(Map<UUID, List<Ticket>> reserved) {
+        List<Ticket> tickets = reserved.values().stream().flatMap(List::stream).toList();
+        if (tickets.isEmpty()) {
+            return;
+        }
+        tickets.forEach(Ticket::release);
+        ticketRepository.saveAll(tickets);
+    }
 }
@@ -0,0 +1,98 @@
+package com.tickets.backend.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickets.backend.dto.event.PurchaserResponse;
+import com.tickets.backend.repository.PurchaseRepository;
+import com.tickets.backend.repository.projection.PurchaserView;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes an event's purchasers straight from a forward-only cursor to the caller's stream, so an
+ * export holds one fetch batch in memory no matter how many purchasers the event has.
+ */
+@Service
+public class PurchaserExportService {
+
+    static final String CSV_HEADER = "email,display_name,quantity,total_amount_cents,purchased_at\n";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final PurchaseRepository purchaseRepository;
+    private final ObjectMapper objectMapper;
+
+    public PurchaserExportService(PurchaseRepository purchaseRepository, ObjectMapper objectMapper) {
+        this.purchaseRepository = purchaseRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void writeCsv(UUID eventId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        try (Stream<PurchaserView> rows = purchaseRepository.streamPurchasers(eventId)) {
+            Iterator<PurchaserView> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                PurchaserView row = iterator.next();
+                writer.write(row.getEmail());
+                writer.write(',');
+                writer.write(escapeCsv(row.getDisplayName()));
+                writer.write(',');
+                writer.write(Integer.toString(row.getQuantity()));
+                writer.write(',');
+                writer.write(Integer.toString(row.getTotalAmountCents()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getCreatedAt()));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void writeNdjson(UUID eventId, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .setRootValueSeparator(null);
+        try (Stream<PurchaserView> rows = purchaseRepository.streamPurchasers(eventId)) {
+            Iterator<PurchaserView> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(toResponse(iterator.next()));
+                generator.writeRaw('\n');
+            }
+        }
+        generator.close();
+    }
+
+    static PurchaserResponse toResponse(PurchaserView row) {
+        return new PurchaserResponse(
+            row.getEmail(),
+            row.getDisplayName(),
+            row.getQuantity(),
+            row.getTotalAmountCents(),
+            row.getCreatedAt().toString()
+        );
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.dto.event.PurchaserPageResponse;
+import com.tickets.backend.dto.event.PurchaserResponse;
+import com.tickets.backend.repository.PurchaseRepository;
+import com.tickets.backend.repository.projection.PurchaserView;
+import com.tickets.backend.service.model.PurchaserCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+public class PurchaserQueryService {
+
+    public static final int MAX_LIMIT = 200;
+
+    private final PurchaseRepository purchaseRepository;
+    private final SalesRollupService salesRollupService;
+
+    public PurchaserQueryService(PurchaseRepository purchaseRepository,
+                                 SalesRollupService salesRollupService) {
+        this.purchaseRepository = purchaseRepository;
+        this.salesRollupService = salesRollupService;
+    }
+
+    /**
+     * Seeks the next page after {@code cursor} in (createdAt, id) order. The total is only
+     * reported for unfiltered listings, where it comes from the sales rollup counter instead of
+     * a count query.
+     */
+    @Transactional(readOnly = true)
+    public PurchaserPageResponse page(UUID eventId,
+                                      String cursor,
+                                      String emailPrefix,
+                                      int limit,
+                                      boolean includeTotal) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        PurchaserCursor after = PurchaserCursor.decode(cursor);
+        PageRequest window = PageRequest.of(0, limit + 1);
+        boolean filtered = emailPrefix != null && !emailPrefix.isBlank();
+
+        List<PurchaserView> rows = filtered
+            ? purchaseRepository.findPurchasersByEmailAfter(eventId, toLikePrefix(emailPrefix),
+                after.createdAt(), after.id(), window)
+            : purchaseRepository.findPurchasersAfter(eventId, after.createdAt(), after.id(), window);
+
+        boolean hasMore = rows.size() > limit;
+        List<PurchaserView> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            PurchaserView last = page.getLast();
+            nextCursor = new PurchaserCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        Long total = includeTotal && !filtered
+            ? (long) salesRollupService.getRollup(eventId).getPurchaseCount()
+            : null;
+
+        List<PurchaserResponse> items = page.stream()
+            .map(PurchaserExportService::toResponse)
+            .toList();
+        return new PurchaserPageResponse(items, nextCursor, total);
+    }
+
+    private static String toLikePrefix(String prefix) {
+        String escaped = prefix.trim().toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return escaped + "%";
+    }
+}
@@ -0,0 +1,48 @@
+package com.tickets.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs one {@link ReservationSweeper} pass when the node starts, before the warm-up and before
+ * readiness, so reservations that expired while no node was sweeping are back on sale before the
+ * first purchase. It uses the sweeper's cutoff and batching, so startup and the periodic sweep
+ * release exactly the same rows; released tickets are counted with reason {@code startup}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReservationRecovery implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationRecovery.class);
+
+    private final ReservationSweeper sweeper;
+    private final boolean enabled;
+    private final Counter released;
+
+    public ReservationRecovery(ReservationSweeper sweeper,
+                               MeterRegistry registry,
+                               @Value("${reservations.sweep-enabled:true}") boolean enabled) {
+        this.sweeper = sweeper;
+        this.enabled = enabled;
+        this.released = ReservationSweeper.releasedCounter(registry, "startup");
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        int count = sweeper.releaseExpired(sweeper.expiryCutoff(), released);
+        if (count > 0) {
+            log.warn("Released {} expired ticket reservations on startup", count);
+        }
+    }
+}
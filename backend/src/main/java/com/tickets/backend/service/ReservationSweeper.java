@@ -0,0 +1,95 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.repository.TicketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Returns reservations older than {@code reservations.expire-after} to sale, in batches of
+ * {@code reservations.sweep-batch-size}, each committed on its own so a large backlog never holds
+ * many row locks at once. Every node may sweep: batches skip rows another sweeper or a purchase has
+ * locked. Released tickets are counted in {@value #RELEASED_COUNTER}, tagged by how they were found.
+ */
+@Component
+public class ReservationSweeper {
+
+    static final String RELEASED_COUNTER = "tickets.reservations.released";
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationSweeper.class);
+
+    private final TicketRepository ticketRepository;
+    private final boolean enabled;
+    private final Duration expireAfter;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter released;
+    private final Timer sweeps;
+
+    public ReservationSweeper(TicketRepository ticketRepository,
+                              MeterRegistry registry,
+                              @Value("${reservations.sweep-enabled:true}") boolean enabled,
+                              @Value("${reservations.expire-after:PT5M}") Duration expireAfter,
+                              @Value("${reservations.sweep-batch-size:500}") int batchSize,
+                              @Value("${reservations.sweep-max-batches:20}") int maxBatchesPerRun) {
+        this.ticketRepository = ticketRepository;
+        this.enabled = enabled;
+        this.expireAfter = expireAfter;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.released = releasedCounter(registry, "expired");
+        this.sweeps = Timer.builder("tickets.reservations.sweep")
+            .description("Time spent releasing expired reservations in one sweep")
+            .register(registry);
+    }
+
+    static Counter releasedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder(RELEASED_COUNTER)
+            .description("Reserved tickets returned to sale without a purchase")
+            .baseUnit("tickets")
+            .tag("reason", reason)
+            .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${reservations.sweep-interval:PT30S}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        int total = releaseExpired(expiryCutoff());
+        sample.stop(sweeps);
+        if (total > 0) {
+            log.warn("Released {} expired ticket reservations", total);
+        }
+    }
+
+    Instant expiryCutoff() {
+        return Instant.now().minus(expireAfter);
+    }
+
+    int releaseExpired(Instant cutoff) {
+        return releaseExpired(cutoff, released);
+    }
+
+    int releaseExpired(Instant cutoff, Counter counter) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int count = ticketRepository.releaseExpiredReservations(cutoff, batchSize);
+            total += count;
+            counter.increment(count);
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
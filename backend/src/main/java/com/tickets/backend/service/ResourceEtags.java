@@ -0,0 +1,41 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.model.Event;
+import com.tickets.backend.repository.projection.ResourceVersionView;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Strong ETags for the read endpoints. Events and venues are tagged from the version columns bumped
+ * on every write, which a single narrow query returns, so a conditional GET is answered before the
+ * resource is loaded or serialized and every node computes the same tag for the same rows. The
+ * catalog already holds its serialized JSON and is tagged by content instead.
+ */
+@Component
+public class ResourceEtags {
+
+    public String of(Event event) {
+        return of(event.getVersion() + event.getVenue().getVersion());
+    }
+
+    public String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public String of(ResourceVersionView version) {
+        return "\"" + version.getEntries() + "-" + version.getVersionSum() + "\"";
+    }
+
+    static String of(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.model.EventSalesHourly;
+import com.tickets.backend.model.EventSalesRollup;
+import com.tickets.backend.model.Purchase;
+import com.tickets.backend.repository.EventSalesHourlyRepository;
+import com.tickets.backend.repository.EventSalesRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class SalesRollupService {
+
+    private final EventSalesRollupRepository rollupRepository;
+    private final EventSalesHourlyRepository hourlyRepository;
+
+    public SalesRollupService(EventSalesRollupRepository rollupRepository,
+                              EventSalesHourlyRepository hourlyRepository) {
+        this.rollupRepository = rollupRepository;
+        this.hourlyRepository = hourlyRepository;
+    }
+
+    /**
+     * Folds a confirmed purchase into the per-event totals and its hourly bucket. Runs inside the
+     * purchase transaction so the rollup commits (or rolls back) together with the purchase row.
+     */
+    @Transactional
+    public void recordPurchase(Purchase purchase) {
+        UUID eventId = purchase.getEvent().getId();
+        long amount = purchase.getTotalAmountCents();
+        Instant bucket = purchase.getCreatedAt().truncatedTo(ChronoUnit.HOURS);
+        rollupRepository.increment(eventId, purchase.getQuantity(), amount, Instant.now());
+        hourlyRepository.increment(eventId, bucket, purchase.getQuantity(), amount);
+    }
+
+    @Transactional(readOnly = true)
+    public EventSalesRollup getRollup(UUID eventId) {
+        return rollupRepository.findById(eventId)
+            .orElseGet(() -> EventSalesRollup.builder().eventId(eventId).build());
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventSalesHourly> getHourly(UUID eventId) {
+        return hourlyRepository.findByEventId(eventId);
+    }
+
+    /**
+     * Recomputes every rollup from the purchases table. Concurrent purchases block on the table
+     * lock until the rebuild commits and then apply their increments on top of it.
+     */
+    @Transactional
+    public int rebuild() {
+        rollupRepository.lockForRebuild();
+        hourlyRepository.deleteAllRows();
+        rollupRepository.deleteAllRows();
+        int events = rollupRepository.rebuildFromPurchases();
+        hourlyRepository.rebuildFromPurchases();
+        return events;
+    }
+}
@@ -7,6 +7,7 @@ import com.tickets.backend.model.Venue;
 import com.tickets.backend.repository.RoleRepository;
 import com.tickets.backend.repository.UserRepository;
 import com.tickets.backend.repository.UserRoleRepository;
+import com.tickets.backend.util.UuidV7Generator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -96,6 +97,7 @@ public class UserService {
             .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<Venue> getManagedVenues(UUID userId) {
         return userRoleRepository.findManagerVenues(userId);
     }
@@ -119,7 +121,7 @@ public class UserService {
 
     private User createUser(String email, String displayName) {
         User user = User.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7Generator.generate())
             .email(email)
             .displayName(displayName)
             .build();
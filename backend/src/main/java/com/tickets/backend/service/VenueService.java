@@ -2,7 +2,9 @@ package com.tickets.backend.service;
 
 import com.tickets.backend.model.Venue;
 import com.tickets.backend.repository.VenueRepository;
+import com.tickets.backend.repository.projection.ResourceVersionView;
 import com.tickets.backend.service.exception.VenueNotFoundException;
+import com.tickets.backend.util.UuidV7Generator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,10 +20,17 @@ public class VenueService {
         this.venueRepository = venueRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<Venue> findAll() {
         return venueRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersionView getVersion() {
+        return venueRepository.findVersion();
+    }
+
+    @Transactional(readOnly = true)
     public Venue getById(UUID venueId) {
         return venueRepository.findById(venueId)
             .orElseThrow(() -> new VenueNotFoundException(venueId));
@@ -30,7 +39,7 @@ public class VenueService {
     @Transactional
     public Venue createVenue(String name, String location, String description) {
         Venue venue = Venue.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7Generator.generate())
             .name(name)
             .location(location)
             .description(description)
@@ -0,0 +1,7 @@
+package com.tickets.backend.service.exception;
+
+public class PurchasesSuspendedException extends RuntimeException {
+    public PurchasesSuspendedException() {
+        super("Purchases are suspended while this node shuts down; retry shortly");
+    }
+}
@@ -0,0 +1,17 @@
+package com.tickets.backend.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("tickets.AuditWrite")
+@Label("Audit Write")
+@Category("Tickets")
+@Description("Audit log entry handed to the persistence context")
+public final class AuditWriteEvent extends Event {
+
+    @Label("Action")
+    public String action;
+}
@@ -0,0 +1,26 @@
+package com.tickets.backend.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("tickets.PaymentCall")
+@Label("Payment Call")
+@Category("Tickets")
+@Description("Charge request to the payment service")
+public final class PaymentCallEvent extends Event {
+
+    @Label("Event Id")
+    public String eventId;
+
+    @Label("Amount (cents)")
+    public int amountCents;
+
+    @Label("Approved")
+    public boolean approved;
+
+    @Label("Offline Fallback")
+    public boolean offline;
+}
@@ -0,0 +1,23 @@
+package com.tickets.backend.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("tickets.Purchase")
+@Label("Ticket Purchase")
+@Category("Tickets")
+@Description("A single-event ticket purchase, from idempotency lookup to audit entry")
+public final class PurchaseEvent extends Event {
+
+    @Label("Event Id")
+    public String eventId;
+
+    @Label("Quantity")
+    public int quantity;
+
+    @Label("Outcome")
+    public String outcome;
+}
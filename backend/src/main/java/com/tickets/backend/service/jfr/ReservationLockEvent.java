@@ -0,0 +1,23 @@
+package com.tickets.backend.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("tickets.ReservationLock")
+@Label("Reservation Lock Wait")
+@Category("Tickets")
+@Description("Row-locking query that claims available tickets for a reservation")
+public final class ReservationLockEvent extends Event {
+
+    @Label("Event Id")
+    public String eventId;
+
+    @Label("Requested")
+    public int requested;
+
+    @Label("Locked")
+    public int locked;
+}
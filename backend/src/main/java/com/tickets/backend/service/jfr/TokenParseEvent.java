@@ -0,0 +1,17 @@
+package com.tickets.backend.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("tickets.TokenParse")
+@Label("Auth Token Parse")
+@Category("Tickets")
+@Description("Signature check and payload decoding of a bearer token")
+public final class TokenParseEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+}
@@ -0,0 +1,6 @@
+package com.tickets.backend.service.model;
+
+import java.util.List;
+
+public record CheckoutResult(String paymentReference, int totalAmountCents, List<PurchaseResult> purchases) {
+}
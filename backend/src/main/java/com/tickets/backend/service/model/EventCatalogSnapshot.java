@@ -0,0 +1,13 @@
+package com.tickets.backend.service.model;
+
+import com.tickets.backend.dto.event.EventResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+public record EventCatalogSnapshot(long version,
+                                   List<EventResponse> events,
+                                   byte[] json,
+                                   String etag,
+                                   Instant validUntil) {
+}
@@ -0,0 +1,36 @@
+package com.tickets.backend.service.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public record EventCursor(OffsetDateTime startsAt, UUID id) {
+
+    public static EventCursor startingAt(OffsetDateTime from) {
+        return new EventCursor(from, new UUID(0L, 0L));
+    }
+
+    public String encode() {
+        String raw = startsAt.withOffsetSameInstant(ZoneOffset.UTC) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Cursor format invalid");
+            }
+            return new EventCursor(
+                OffsetDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor format invalid", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.tickets.backend.service.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Optional catalog filters; {@code null} leaves a dimension unrestricted, except {@code from},
+ * which defaults to now so listings start with upcoming events.
+ */
+public record EventFilter(UUID venueId,
+                          OffsetDateTime from,
+                          OffsetDateTime to,
+                          Integer minPriceCents,
+                          Integer maxPriceCents,
+                          boolean availableOnly) {
+}
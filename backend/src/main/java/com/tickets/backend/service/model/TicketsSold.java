@@ -0,0 +1,6 @@
+package com.tickets.backend.service.model;
+
+import java.util.UUID;
+
+public record TicketsSold(UUID eventId, UUID venueId, int quantity) {
+}
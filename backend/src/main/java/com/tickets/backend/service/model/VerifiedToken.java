@@ -0,0 +1,46 @@
+package com.tickets.backend.service.model;
+
+import com.tickets.backend.dto.auth.TokenPayload;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A token whose signature has been checked, cached by that signature and shared by every request
+ * presenting the same token. It holds only immutable state, the parsed payload and its authorities;
+ * each request gets its own {@link #newAuthentication() Authentication}, which Spring Security
+ * treats as mutable.
+ */
+public final class VerifiedToken {
+
+    private final byte[] signature;
+    private final TokenPayload payload;
+    private final List<? extends GrantedAuthority> authorities;
+
+    public VerifiedToken(byte[] signature, TokenPayload payload, List<? extends GrantedAuthority> authorities) {
+        this.signature = signature;
+        this.payload = payload;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    public boolean hasSignature(byte[] candidate, int length) {
+        return Arrays.equals(signature, 0, signature.length, candidate, 0, length);
+    }
+
+    public TokenPayload payload() {
+        return payload;
+    }
+
+    public List<? extends GrantedAuthority> authorities() {
+        return authorities;
+    }
+
+    public UsernamePasswordAuthenticationToken newAuthentication() {
+        UsernamePasswordAuthenticationToken token =
+            UsernamePasswordAuthenticationToken.authenticated(payload.email(), null, authorities);
+        token.setDetails(payload);
+        return token;
+    }
+}
@@ -0,0 +1,48 @@
+package com.tickets.backend.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time-ordered RFC 9562 version 7 UUIDs for primary keys. New rows land at the right edge of the
+ * B-tree instead of on random pages, which keeps index inserts cache-friendly and pages full.
+ * Each thread keeps its own clock and counter in the 12-bit {@code rand_a} field, so ids from one
+ * thread are strictly increasing without any shared lock; if a thread exhausts the counter within
+ * a millisecond, or the wall clock steps back, it keeps counting from its last timestamp.
+ */
+public final class UuidV7Generator {
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private UuidV7Generator() {
+    }
+
+    public static UUID generate() {
+        return STATE.get().next(System.currentTimeMillis());
+    }
+
+    static final class State {
+
+        private static final int MAX_SEQUENCE = 0xFFF;
+
+        private long lastMillis = -1;
+        private int sequence;
+
+        UUID next(long nowMillis) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (nowMillis > lastMillis) {
+                lastMillis = nowMillis;
+                // start in the lower half so a burst within one millisecond has room to count up
+                sequence = random.nextInt(MAX_SEQUENCE / 2);
+            } else if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                lastMillis++;
+                sequence = 0;
+            }
+            long msb = (lastMillis << 16) | 0x7000L | sequence;
+            long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(msb, lsb);
+        }
+    }
+}
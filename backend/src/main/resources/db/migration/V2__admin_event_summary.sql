@@ -0,0 +1,16 @@
+CREATE MATERIALIZED VIEW admin_event_summary AS
+SELECT v.id AS venue_id,
+       v.name AS venue_name,
+       v.location AS venue_location,
+       e.id AS event_id,
+       e.title AS title,
+       e.starts_at AS starts_at,
+       e.tickets_total AS tickets_total,
+       e.tickets_sold AS tickets_sold,
+       COALESCE(SUM(p.total_amount_cents), 0) AS revenue_cents
+FROM venues v
+LEFT JOIN events e ON e.venue_id = v.id
+LEFT JOIN purchases p ON p.event_id = e.id
+GROUP BY v.id, v.name, v.location, e.id, e.title, e.starts_at, e.tickets_total, e.tickets_sold;
+
+CREATE UNIQUE INDEX idx_admin_event_summary_venue_event ON admin_event_summary (venue_id, event_id);
@@ -0,0 +1,48 @@
+CREATE TABLE event_sales_rollup (
+    event_id UUID PRIMARY KEY REFERENCES events (id),
+    tickets_sold INTEGER NOT NULL DEFAULT 0,
+    revenue_cents BIGINT NOT NULL DEFAULT 0,
+    purchase_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE event_sales_hourly (
+    event_id UUID NOT NULL REFERENCES events (id),
+    bucket_start TIMESTAMPTZ NOT NULL,
+    tickets_sold INTEGER NOT NULL DEFAULT 0,
+    revenue_cents BIGINT NOT NULL DEFAULT 0,
+    purchase_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id, bucket_start)
+);
+
+INSERT INTO event_sales_rollup (event_id, tickets_sold, revenue_cents, purchase_count, updated_at)
+SELECT p.event_id, SUM(p.quantity), SUM(p.total_amount_cents), COUNT(*), NOW()
+FROM purchases p
+GROUP BY p.event_id;
+
+INSERT INTO event_sales_hourly (event_id, bucket_start, tickets_sold, revenue_cents, purchase_count)
+SELECT p.event_id,
+       date_trunc('hour', p.created_at AT TIME ZONE 'UTC') AT TIME ZONE 'UTC',
+       SUM(p.quantity),
+       SUM(p.total_amount_cents),
+       COUNT(*)
+FROM purchases p
+GROUP BY p.event_id, date_trunc('hour', p.created_at AT TIME ZONE 'UTC');
+
+DROP MATERIALIZED VIEW admin_event_summary;
+
+CREATE MATERIALIZED VIEW admin_event_summary AS
+SELECT v.id AS venue_id,
+       v.name AS venue_name,
+       v.location AS venue_location,
+       e.id AS event_id,
+       e.title AS title,
+       e.starts_at AS starts_at,
+       e.tickets_total AS tickets_total,
+       e.tickets_sold AS tickets_sold,
+       COALESCE(r.revenue_cents, 0) AS revenue_cents
+FROM venues v
+LEFT JOIN events e ON e.venue_id = v.id
+LEFT JOIN event_sales_rollup r ON r.event_id = e.id;
+
+CREATE UNIQUE INDEX idx_admin_event_summary_venue_event ON admin_event_summary (venue_id, event_id);
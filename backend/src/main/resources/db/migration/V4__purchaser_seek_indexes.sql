@@ -0,0 +1,3 @@
+CREATE INDEX idx_purchases_event_created_id ON purchases (event_id, created_at, id);
+CREATE INDEX idx_purchases_user_event ON purchases (user_id, event_id);
+CREATE INDEX idx_users_email_lower_prefix ON users (lower(email) text_pattern_ops);
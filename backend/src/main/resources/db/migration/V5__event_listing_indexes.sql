@@ -0,0 +1,2 @@
+CREATE INDEX idx_events_starts_at_id ON events (starts_at, id);
+CREATE INDEX idx_events_venue_starts_at_id ON events (venue_id, starts_at, id);
@@ -0,0 +1,69 @@
+-- Title, venue name and description ranked A/B/C. The 'simple' configuration keeps names unstemmed
+-- so typeahead prefixes match what users type.
+CREATE FUNCTION event_search_vector(p_title TEXT, p_venue_name TEXT, p_description TEXT)
+RETURNS tsvector
+LANGUAGE sql
+IMMUTABLE
+AS $$
+    SELECT setweight(to_tsvector('simple', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(p_venue_name, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(p_description, '')), 'C')
+$$;
+
+ALTER TABLE events ADD COLUMN search_vector tsvector;
+
+UPDATE events e
+SET search_vector = event_search_vector(e.title, v.name, e.description)
+FROM venues v
+WHERE v.id = e.venue_id;
+
+ALTER TABLE events ALTER COLUMN search_vector SET NOT NULL;
+
+CREATE INDEX idx_events_search_vector ON events USING GIN (search_vector);
+
+-- A generated column cannot read the venue name, so triggers keep the vector current instead.
+CREATE FUNCTION events_refresh_search_vector()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_vector := event_search_vector(
+        NEW.title,
+        (SELECT v.name FROM venues v WHERE v.id = NEW.venue_id),
+        NEW.description
+    );
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER trg_events_search_vector_insert
+BEFORE INSERT ON events
+FOR EACH ROW
+EXECUTE FUNCTION events_refresh_search_vector();
+
+-- Hibernate writes every column on update, so only react when searchable text actually changed.
+CREATE TRIGGER trg_events_search_vector_update
+BEFORE UPDATE ON events
+FOR EACH ROW
+WHEN (OLD.title IS DISTINCT FROM NEW.title
+   OR OLD.description IS DISTINCT FROM NEW.description
+   OR OLD.venue_id IS DISTINCT FROM NEW.venue_id)
+EXECUTE FUNCTION events_refresh_search_vector();
+
+CREATE FUNCTION venues_refresh_event_search_vectors()
+RETURNS trigger
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    UPDATE events e
+    SET search_vector = event_search_vector(e.title, NEW.name, e.description)
+    WHERE e.venue_id = NEW.id;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_venues_event_search_vectors
+AFTER UPDATE OF name ON venues
+FOR EACH ROW
+WHEN (OLD.name IS DISTINCT FROM NEW.name)
+EXECUTE FUNCTION venues_refresh_event_search_vectors();
@@ -0,0 +1,10 @@
+ALTER TABLE tickets
+    ADD COLUMN reserved_at TIMESTAMPTZ,
+    ADD COLUMN reservation_token UUID;
+
+-- Rows stranded as RESERVED before reservations were stamped become eligible for the sweeper
+-- once the expiry has passed.
+UPDATE tickets SET reserved_at = NOW() WHERE status = 'RESERVED';
+
+-- Only reservations are ever scanned by age, and they are a tiny fraction of all tickets.
+CREATE INDEX idx_tickets_reserved_at ON tickets (reserved_at) WHERE status = 'RESERVED';
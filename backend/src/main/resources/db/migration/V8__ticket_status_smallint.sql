@@ -0,0 +1,26 @@
+-- Ticket status becomes a smallint (0 = AVAILABLE, 1 = RESERVED, 2 = SOLD, see TicketStatus) and the
+-- catch-all (event_id, status) index gives way to partial indexes over the rows each query reads.
+-- The type change rewrites the table under an exclusive lock; run it outside an on-sale.
+
+DROP INDEX idx_ticket_event_status;
+DROP INDEX idx_tickets_reserved_at;
+
+ALTER TABLE tickets
+    ALTER COLUMN status TYPE SMALLINT USING CASE status
+        WHEN 'AVAILABLE' THEN 0
+        WHEN 'RESERVED' THEN 1
+        WHEN 'SOLD' THEN 2
+    END,
+    ADD CONSTRAINT tickets_status_check CHECK (status IN (0, 1, 2));
+
+-- Reservation scan: an event's AVAILABLE tickets in created_at order. Sold tickets leave the index,
+-- so it shrinks as an on-sale progresses instead of growing with every sale.
+CREATE INDEX idx_tickets_available ON tickets (event_id, created_at) WHERE status = 0;
+
+-- Expiry sweep over reservations, oldest first.
+CREATE INDEX idx_tickets_reserved_at ON tickets (reserved_at) WHERE status = 1;
+
+-- Idempotent replays and checkout replays load a purchase's tickets; unsold rows have no purchase.
+CREATE INDEX idx_tickets_purchase_id ON tickets (purchase_id) WHERE purchase_id IS NOT NULL;
+
+ANALYZE tickets;
@@ -0,0 +1,4 @@
+-- Version counters for conditional GETs: bumped on every write to a row, so an ETag can be computed
+-- from these columns alone without loading or serializing the resource.
+ALTER TABLE venues ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE events ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
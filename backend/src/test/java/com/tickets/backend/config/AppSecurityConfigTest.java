@@ -0,0 +1,85 @@
+package com.tickets.backend.config;
+
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.VenueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+class AppSecurityConfigTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private MockMvc mockMvc;
+    private Venue venue;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+            .apply(springSecurity())
+            .build();
+        venue = venueRepository.save(Venue.builder()
+            .id(UUID.randomUUID())
+            .name("Security Hall")
+            .location("City")
+            .build());
+        OffsetDateTime startsAt = OffsetDateTime.now().plusDays(1);
+        event = eventRepository.save(Event.builder()
+            .id(UUID.randomUUID())
+            .venue(venue)
+            .title("Open stream")
+            .startsAt(startsAt)
+            .endsAt(startsAt.plusHours(2))
+            .faceValueCents(1000)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.delete(event);
+        venueRepository.delete(venue);
+    }
+
+    @Test
+    void availabilityStreamIsOpenToAnonymousClients() throws Exception {
+        mockMvc.perform(get("/api/events/{eventId}/availability", event.getId())
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void eventReadsStillRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/api/events/{eventId}", event.getId()))
+            .andExpect(rejected());
+    }
+
+    private static ResultMatcher rejected() {
+        return result -> assertThat(result.getResponse().getStatus()).isIn(401, 403);
+    }
+}
@@ -0,0 +1,63 @@
+package com.tickets.backend.config;
+
+import com.tickets.backend.dto.diagnostics.ContentionReport;
+import com.tickets.backend.dto.diagnostics.PoolStats;
+import com.tickets.backend.service.EventService;
+import com.tickets.backend.service.LockContentionTracker;
+import com.tickets.backend.service.LockWaitSampler;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContentionEndpointTest {
+
+    @Test
+    void reportCoversThePrimaryAndEveryReplicaPool() {
+        HikariDataSource primary = pool("primary", 3);
+        HikariDataSource replica = pool("replica-0", 1);
+        ReplicaDataSource routing = new ReplicaDataSource(primary, List.of(replica), Duration.ofSeconds(2), Duration.ofSeconds(1));
+
+        ContentionEndpoint endpoint = new ContentionEndpoint(provider(primary), provider(routing),
+            mock(LockWaitSampler.class), mock(LockContentionTracker.class), mock(EventService.class));
+        ContentionReport report = endpoint.report();
+
+        assertThat(report.pools()).extracting(PoolStats::pool).containsExactly("primary", "replica-0");
+        assertThat(report.pools()).extracting(PoolStats::active).containsExactly(3, 1);
+    }
+
+    @Test
+    void reportCoversOnlyThePrimaryWithoutReplicaRouting() {
+        HikariDataSource primary = pool("primary", 0);
+
+        ContentionEndpoint endpoint = new ContentionEndpoint(provider(primary), provider(),
+            mock(LockWaitSampler.class), mock(LockContentionTracker.class), mock(EventService.class));
+
+        assertThat(endpoint.report().pools()).extracting(PoolStats::pool).containsExactly("primary");
+    }
+
+    private static HikariDataSource pool(String name, int active) {
+        HikariPoolMXBean mx = mock(HikariPoolMXBean.class);
+        when(mx.getActiveConnections()).thenReturn(active);
+        HikariDataSource pool = mock(HikariDataSource.class);
+        when(pool.getHikariPoolMXBean()).thenReturn(mx);
+        when(pool.getPoolName()).thenReturn(name);
+        return pool;
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T... beans) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(beans));
+        return provider;
+    }
+}
@@ -0,0 +1,53 @@
+package com.tickets.backend.config;
+
+import com.tickets.backend.service.jfr.AuditWriteEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint =
+        new FlightRecordingEndpoint(Duration.ofMinutes(1), DataSize.ofMegabytes(16));
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    void downloadIsNotFoundBeforeAnyRecording() {
+        assertThat(endpoint.download().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    void recordsCustomEventsAndBoundsDuration() throws Exception {
+        WebEndpointResponse<FlightRecordingEndpoint.RecordingStatus> started = endpoint.start(3600L);
+
+        assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(started.getBody().duration()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(endpoint.start(null).getStatus()).isEqualTo(409);
+
+        AuditWriteEvent event = new AuditWriteEvent();
+        event.begin();
+        event.action = "TEST";
+        event.commit();
+        assertThat(endpoint.stop().state()).isEqualTo("STOPPED");
+
+        Resource dump = endpoint.download().getBody();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump.getFile().toPath());
+        assertThat(events)
+            .filteredOn(recorded -> recorded.getEventType().getName().equals("tickets.AuditWrite"))
+            .singleElement()
+            .satisfies(recorded -> assertThat(recorded.getString("action")).isEqualTo("TEST"));
+    }
+}
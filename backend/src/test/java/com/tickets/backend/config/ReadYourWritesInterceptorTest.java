@@ -0,0 +1,63 @@
+package com.tickets.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ReadYourWritesInterceptorTest {
+
+    private final ReplicaDataSource replicaDataSource = mock(ReplicaDataSource.class);
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final ReadYourWritesInterceptor interceptor =
+        new ReadYourWritesInterceptor(replicaDataSource, Duration.ofSeconds(5), clock);
+
+    @Test
+    void pinsReadsAfterSuccessfulWrite() {
+        complete(request("POST", "buyer@example.com"), 200);
+
+        interceptor.preHandle(request("GET", "buyer@example.com"), new MockHttpServletResponse(), new Object());
+
+        verify(replicaDataSource).pinToPrimary();
+    }
+
+    @Test
+    void doesNotPinOtherUsersOrAfterFailedWrites() {
+        complete(request("POST", "buyer@example.com"), 409);
+        complete(request("POST", "other@example.com"), 200);
+
+        interceptor.preHandle(request("GET", "buyer@example.com"), new MockHttpServletResponse(), new Object());
+
+        verify(replicaDataSource, never()).pinToPrimary();
+    }
+
+    @Test
+    void readsDoNotStartAWindow() {
+        complete(request("GET", "buyer@example.com"), 200);
+
+        interceptor.preHandle(request("GET", "buyer@example.com"), new MockHttpServletResponse(), new Object());
+
+        verify(replicaDataSource, never()).pinToPrimary();
+    }
+
+    private void complete(MockHttpServletRequest request, int status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+    }
+
+    private static MockHttpServletRequest request(String method, String user) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/events");
+        request.setRemoteUser(user);
+        return request;
+    }
+}
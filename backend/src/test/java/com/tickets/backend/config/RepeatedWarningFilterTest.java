@@ -0,0 +1,44 @@
+package com.tickets.backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepeatedWarningFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger payments = context.getLogger("payments");
+    private final Logger orders = context.getLogger("orders");
+
+    @Test
+    void dropsRepeatsOfTheSameWarningPerLoggerWithinTheInterval() {
+        RepeatedWarningFilter filter = new RepeatedWarningFilter();
+        filter.setMaxRepeats(2);
+        filter.setIntervalMillis(60_000);
+
+        assertThat(decide(filter, payments, Level.WARN, "down {}")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, payments, Level.WARN, "down {}")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, payments, Level.WARN, "down {}")).isEqualTo(FilterReply.DENY);
+        assertThat(decide(filter, payments, Level.ERROR, "other {}")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, orders, Level.WARN, "down {}")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, payments, Level.INFO, "down {}")).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void admitsAgainOnceTheIntervalHasPassed() {
+        RepeatedWarningFilter filter = new RepeatedWarningFilter();
+        filter.setMaxRepeats(1);
+        filter.setIntervalMillis(0);
+
+        assertThat(decide(filter, payments, Level.WARN, "down")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(filter, payments, Level.WARN, "down")).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private static FilterReply decide(RepeatedWarningFilter filter, Logger logger, Level level, String format) {
+        return filter.decide(null, logger, level, format, null, null);
+    }
+}
@@ -0,0 +1,136 @@
+package com.tickets.backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaDataSourceTest {
+
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(1);
+
+    private final DataSource primary = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+
+    @Test
+    void usesPrimaryUntilReplicaIsKnownFresh() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replicaWithLag(0)), Duration.ofSeconds(2), PROBE_TIMEOUT);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void routesToFreshReplica() throws SQLException {
+        DataSource replica = replicaWithLag(500);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replica), Duration.ofSeconds(2), PROBE_TIMEOUT);
+
+        dataSource.checkFreshness();
+
+        assertThat(dataSource.freshReplicaCount()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotSameAs(primaryConnection);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLagsTooFar() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replicaWithLag(5_000)), Duration.ofSeconds(2), PROBE_TIMEOUT);
+
+        dataSource.checkFreshness();
+
+        assertThat(dataSource.freshReplicaCount()).isZero();
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void pinnedThreadReadsFromPrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replicaWithLag(0)), Duration.ofSeconds(2), PROBE_TIMEOUT);
+        dataSource.checkFreshness();
+
+        dataSource.pinToPrimary();
+        try {
+            assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        } finally {
+            dataSource.release();
+        }
+        assertThat(dataSource.getConnection()).isNotSameAs(primaryConnection);
+    }
+
+    @Test
+    void unreachableReplicaIsMarkedStaleAndPrimaryServes() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        DataSource replica = replicaWithLag(0);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replica), Duration.ofSeconds(2), PROBE_TIMEOUT);
+        dataSource.checkFreshness();
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.freshReplicaCount()).isZero();
+    }
+
+    @Test
+    void replicaWithUnknownLagIsStale() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        DataSource replica = replicaWithLag(0);
+        ResultSet unknown = replica.getConnection().createStatement().executeQuery(ReplicaDataSource.LAG_QUERY);
+        when(unknown.wasNull()).thenReturn(true);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replica), Duration.ofSeconds(2), PROBE_TIMEOUT);
+
+        dataSource.checkFreshness();
+
+        assertThat(dataSource.freshReplicaCount()).isZero();
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void explicitCredentialsFollowTheSameRouting() throws SQLException {
+        DataSource replica = replicaWithLag(0);
+        Connection replicaConnection = mock(Connection.class);
+        when(replica.getConnection("reporting", "secret")).thenReturn(replicaConnection);
+        when(primary.getConnection("reporting", "secret")).thenReturn(primaryConnection);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replica), Duration.ofSeconds(2), PROBE_TIMEOUT);
+        dataSource.checkFreshness();
+
+        assertThat(dataSource.getConnection("reporting", "secret")).isSameAs(replicaConnection);
+        dataSource.pinToPrimary();
+        try {
+            assertThat(dataSource.getConnection("reporting", "secret")).isSameAs(primaryConnection);
+        } finally {
+            dataSource.release();
+        }
+    }
+
+    @Test
+    void lagProbeIsBoundedByTheProbeTimeout() throws SQLException {
+        DataSource replica = replicaWithLag(0);
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(replica), Duration.ofSeconds(2), Duration.ofSeconds(3));
+
+        dataSource.checkFreshness();
+
+        verify(replica.getConnection().createStatement()).setQueryTimeout(3);
+    }
+
+    private static DataSource replicaWithLag(double lagMillis) throws SQLException {
+        DataSource replica = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaDataSource.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagMillis);
+        return replica;
+    }
+}
@@ -0,0 +1,55 @@
+package com.tickets.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLoggingFilterTest {
+
+    private static final String EVENT_ID = "0190f1e2-7a4b-7c3d-8e5f-123456789abc";
+
+    private final RequestLoggingFilter filter = new RequestLoggingFilter();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exposesRequestFieldsToLogsOnlyWhileTheRequestRuns() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated("buyer@example.com", null, List.of()));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/events/" + EVENT_ID + "/purchase");
+        request.addHeader(RequestLoggingFilter.IDEMPOTENCY_HEADER, "key-1");
+        Map<String, String> seen = new HashMap<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.putAll(MDC.getCopyOfContextMap()));
+
+        assertThat(seen)
+            .containsEntry(RequestLoggingFilter.USER, "buyer@example.com")
+            .containsEntry(RequestLoggingFilter.EVENT_ID, EVENT_ID)
+            .containsEntry(RequestLoggingFilter.IDEMPOTENCY_KEY, "key-1");
+        assertThat(MDC.get(RequestLoggingFilter.USER)).isNull();
+        assertThat(MDC.get(RequestLoggingFilter.EVENT_ID)).isNull();
+        assertThat(MDC.get(RequestLoggingFilter.IDEMPOTENCY_KEY)).isNull();
+    }
+
+    @Test
+    void eventIdIsSlicedOnlyFromEventPaths() {
+        assertThat(RequestLoggingFilter.eventId("/api/events/" + EVENT_ID)).isEqualTo(EVENT_ID);
+        assertThat(RequestLoggingFilter.eventId("/api/events/" + EVENT_ID + "/tickets:generate")).isEqualTo(EVENT_ID);
+        assertThat(RequestLoggingFilter.eventId("/api/events/search")).isNull();
+        assertThat(RequestLoggingFilter.eventId("/api/events/" + EVENT_ID + "x")).isNull();
+        assertThat(RequestLoggingFilter.eventId("/api/venues/" + EVENT_ID + "/events")).isNull();
+    }
+}
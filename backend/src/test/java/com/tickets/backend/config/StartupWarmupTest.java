@@ -0,0 +1,86 @@
+package com.tickets.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickets.backend.dto.diagnostics.WarmupReport;
+import com.tickets.backend.dto.diagnostics.WarmupStepResult;
+import com.tickets.backend.model.Role;
+import com.tickets.backend.repository.RoleRepository;
+import com.tickets.backend.service.AuthTokenService;
+import com.tickets.backend.service.EventCatalog;
+import com.tickets.backend.service.VenueService;
+import com.tickets.backend.service.model.EventCatalogSnapshot;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.info.Info;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupTest {
+
+    @Mock
+    private ObjectProvider<HikariDataSource> pools;
+    @Mock
+    private RoleRepository roleRepository;
+    @Mock
+    private VenueService venueService;
+    @Mock
+    private EventCatalog eventCatalog;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private StartupWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        warmup = new StartupWarmup(pools, roleRepository, venueService, eventCatalog,
+            new AuthTokenService(objectMapper, "secret"), objectMapper, entityManagerFactory, registry, 16);
+    }
+
+    @Test
+    void runsEveryStepAndReportsFailuresWithoutAborting() {
+        when(pools.orderedStream()).thenReturn(Stream.empty());
+        when(roleRepository.findByNameIgnoreCase(anyString()))
+            .thenReturn(Optional.of(Role.builder().name("ROLE_USER").build()));
+        when(venueService.findAll()).thenReturn(List.of());
+        when(eventCatalog.snapshot()).thenReturn(new EventCatalogSnapshot(0, List.of(), new byte[0], "\"e\"", Instant.now()));
+        when(entityManagerFactory.createEntityManager()).thenThrow(new IllegalStateException("database down"));
+
+        WarmupReport report = warmup.warmUp();
+
+        assertThat(report.steps()).extracting(WarmupStepResult::step).containsExactly(
+            "connection-pool", "roles", "venues", "event-catalog", "auth-token", "event-json", "jpa-metamodel");
+        assertThat(report.steps()).filteredOn(step -> step.outcome().equals("error"))
+            .singleElement()
+            .satisfies(step -> {
+                assertThat(step.step()).isEqualTo("jpa-metamodel");
+                assertThat(step.detail()).contains("database down");
+            });
+        assertThat(report.steps()).filteredOn(step -> step.step().equals("auth-token"))
+            .singleElement()
+            .satisfies(step -> assertThat(step.detail()).isEqualTo("50 verifications"));
+        assertThat(registry.get(StartupWarmup.WARMUP_TIMER).tag("step", "auth-token").tag("outcome", "success")
+            .timer().count()).isEqualTo(1);
+
+        Info.Builder info = new Info.Builder();
+        warmup.contribute(info);
+        assertThat(info.build().getDetails()).containsEntry("warmup", report);
+    }
+}
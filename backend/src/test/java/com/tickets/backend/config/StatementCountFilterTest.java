@@ -0,0 +1,53 @@
+package com.tickets.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCountFilterTest {
+
+    private final StatementCountFilter filter =
+        new StatementCountFilter(new StatementCounter(), new SimpleMeterRegistry(), true);
+
+    @Test
+    void buffersRegularResponsesToAddTheHeader() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ServletResponse seen = run(request("application/json"), response);
+
+        assertThat(seen).isInstanceOf(ContentCachingResponseWrapper.class);
+        assertThat(response.getHeader(StatementCountFilter.HEADER)).isEqualTo("0");
+    }
+
+    @Test
+    void streamsExportsAndEventStreamsUnbuffered() throws Exception {
+        for (String accept : new String[] {"text/csv", "application/x-ndjson", "text/event-stream"}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            ServletResponse seen = run(request(accept), response);
+
+            assertThat(seen).as(accept).isSameAs(response);
+            assertThat(response.getHeader(StatementCountFilter.HEADER)).as(accept).isNull();
+        }
+    }
+
+    private ServletResponse run(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicReference<ServletResponse> seen = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> seen.set(res));
+        return seen.get();
+    }
+
+    private static MockHttpServletRequest request(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/1/purchasers");
+        request.addHeader(HttpHeaders.ACCEPT, accept);
+        return request;
+    }
+}
@@ -1,10 +1,8 @@
 package com.tickets.backend.controller;
 
-import com.tickets.backend.model.Event;
-import com.tickets.backend.model.Venue;
-import com.tickets.backend.repository.PurchaseRepository;
-import com.tickets.backend.service.EventService;
-import com.tickets.backend.service.VenueService;
+import com.tickets.backend.repository.projection.EventRevenueView;
+import com.tickets.backend.service.AdminDashboardService;
+import com.tickets.backend.service.SalesRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +20,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -29,53 +28,83 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class AdminControllerTest {
 
     @Mock
-    private VenueService venueService;
+    private AdminDashboardService adminDashboardService;
 
     @Mock
-    private EventService eventService;
-
-    @Mock
-    private PurchaseRepository purchaseRepository;
+    private SalesRollupService salesRollupService;
 
     @InjectMocks
     private AdminController adminController;
 
     private MockMvc mockMvc;
-    private Venue venue;
-    private Event event;
 
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(adminController)
             .setControllerAdvice(new GlobalExceptionHandler())
             .build();
-        venue = Venue.builder()
-            .id(UUID.randomUUID())
-            .name("Main Hall")
-            .location("City")
-            .build();
-        event = Event.builder()
-            .id(UUID.randomUUID())
-            .venue(venue)
-            .title("Concert")
-            .startsAt(OffsetDateTime.now().plusDays(3))
-            .endsAt(OffsetDateTime.now().plusDays(3).plusHours(2))
-            .faceValueCents(4000)
-            .ticketsTotal(100)
-            .ticketsSold(20)
-            .build();
     }
 
     @Test
     void dashboardReturnsVenueSummary() throws Exception {
-        when(venueService.findAll()).thenReturn(List.of(venue));
-        when(eventService.listByVenue(venue.getId())).thenReturn(List.of(event));
-        when(purchaseRepository.sumRevenueForEvent(event.getId())).thenReturn(80000);
+        UUID venueId = UUID.randomUUID();
+        when(adminDashboardService.loadEventRevenue()).thenReturn(List.of(
+            row(venueId, "Main Hall", UUID.randomUUID(), "Concert", 80000L),
+            row(venueId, "Main Hall", UUID.randomUUID(), "Encore", 0L)
+        ));
 
         mockMvc.perform(get("/api/admin/dashboard"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$", hasSize(1)))
             .andExpect(jsonPath("$[0].name", is("Main Hall")))
+            .andExpect(jsonPath("$[0].events", hasSize(2)))
             .andExpect(jsonPath("$[0].events[0].revenueCents", is(80000)));
     }
+
+    @Test
+    void dashboardKeepsRevenueBeyondIntRange() throws Exception {
+        when(adminDashboardService.loadEventRevenue()).thenReturn(List.of(
+            row(UUID.randomUUID(), "Stadium", UUID.randomUUID(), "Final", 3_000_000_000L)
+        ));
+
+        mockMvc.perform(get("/api/admin/dashboard"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].events[0].revenueCents", is(3_000_000_000L)));
+    }
+
+    @Test
+    void dashboardKeepsVenuesWithoutEvents() throws Exception {
+        when(adminDashboardService.loadEventRevenue()).thenReturn(List.of(
+            row(UUID.randomUUID(), "Empty Hall", null, null, 0L)
+        ));
+
+        mockMvc.perform(get("/api/admin/dashboard"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].events", hasSize(0)));
+    }
+
+    @Test
+    void rebuildSalesRollupsReportsRebuiltEvents() throws Exception {
+        when(salesRollupService.rebuild()).thenReturn(3);
+
+        mockMvc.perform(post("/api/admin/sales-rollups:rebuild"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.eventsRebuilt", is(3)));
+    }
+
+    private EventRevenueView row(UUID venueId, String venueName, UUID eventId, String title, Long revenue) {
+        OffsetDateTime startsAt = eventId == null ? null : OffsetDateTime.now().plusDays(3);
+        return new EventRevenueView() {
+            public UUID getVenueId() { return venueId; }
+            public String getVenueName() { return venueName; }
+            public String getVenueLocation() { return "City"; }
+            public UUID getEventId() { return eventId; }
+            public String getTitle() { return title; }
+            public OffsetDateTime getStartsAt() { return startsAt; }
+            public Integer getTicketsTotal() { return eventId == null ? null : 100; }
+            public Integer getTicketsSold() { return eventId == null ? null : 20; }
+            public Long getRevenueCents() { return revenue; }
+        };
+    }
 }
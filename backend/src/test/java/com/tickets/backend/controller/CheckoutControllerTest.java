@@ -0,0 +1,141 @@
+package com.tickets.backend.controller;
+
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.Purchase;
+import com.tickets.backend.model.Ticket;
+import com.tickets.backend.model.TicketStatus;
+import com.tickets.backend.model.User;
+import com.tickets.backend.service.CurrentUserService;
+import com.tickets.backend.service.PurchaseGate;
+import com.tickets.backend.service.PurchaseService;
+import com.tickets.backend.service.model.CartItem;
+import com.tickets.backend.service.model.CheckoutResult;
+import com.tickets.backend.service.model.PurchaseResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CheckoutControllerTest {
+
+    @Mock
+    private PurchaseService purchaseService;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Spy
+    private PurchaseGate purchaseGate = new PurchaseGate();
+
+    @InjectMocks
+    private CheckoutController checkoutController;
+
+    private MockMvc mockMvc;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(checkoutController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+        user = User.builder()
+            .id(UUID.randomUUID())
+            .email("buyer@example.com")
+            .displayName("Buyer")
+            .build();
+    }
+
+    @Test
+    void checkoutReturnsOnePurchasePerEvent() throws Exception {
+        UUID eventA = UUID.randomUUID();
+        UUID eventB = UUID.randomUUID();
+        when(currentUserService.requireCurrentUser()).thenReturn(user);
+        when(purchaseService.checkout(eq(user), eq(List.of(new CartItem(eventA, 2), new CartItem(eventB, 1))),
+            eq("tok"), eq("cart-1")))
+            .thenReturn(new CheckoutResult("ref-1", 9000, List.of(result(eventA, 2, 6000), result(eventB, 1, 3000))));
+
+        mockMvc.perform(post("/api/checkout")
+                .header("Idempotency-Key", "cart-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"items":[{"eventId":"%s","quantity":2},{"eventId":"%s","quantity":1}],"paymentToken":"tok"}
+                    """.formatted(eventA, eventB)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.paymentReference", is("ref-1")))
+            .andExpect(jsonPath("$.totalAmountCents", is(9000)))
+            .andExpect(jsonPath("$.purchases", hasSize(2)))
+            .andExpect(jsonPath("$.purchases[0].ticketCodes", hasSize(2)));
+    }
+
+    @Test
+    void checkoutRejectsEmptyCart() throws Exception {
+        mockMvc.perform(post("/api/checkout")
+                .header("Idempotency-Key", "cart-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[],\"paymentToken\":\"tok\"}"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(purchaseService);
+    }
+
+    @Test
+    void checkoutIsRefusedWhileDraining() throws Exception {
+        purchaseGate.close();
+
+        mockMvc.perform(post("/api/checkout")
+                .header("Idempotency-Key", "cart-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"items":[{"eventId":"%s","quantity":1}],"paymentToken":"tok"}
+                    """.formatted(UUID.randomUUID())))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "1"));
+
+        verifyNoInteractions(purchaseService);
+        assertThat(purchaseGate.inFlight()).isZero();
+    }
+
+    private PurchaseResult result(UUID eventId, int quantity, int amount) {
+        Event event = Event.builder().id(eventId).title("Show").build();
+        Purchase purchase = Purchase.builder()
+            .id(UUID.randomUUID())
+            .event(event)
+            .user(user)
+            .quantity(quantity)
+            .totalAmountCents(amount)
+            .paymentReference("ref-1")
+            .idempotencyKey("cart-1")
+            .build();
+        List<Ticket> tickets = IntStream.range(0, quantity)
+            .mapToObj(i -> Ticket.builder()
+                .id(UUID.randomUUID())
+                .event(event)
+                .status(TicketStatus.SOLD)
+                .code("T" + i)
+                .build())
+            .toList();
+        return new PurchaseResult(purchase, tickets);
+    }
+}
@@ -2,7 +2,14 @@ package com.tickets.backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tickets.backend.dto.event.CreateEventRequest;
+import com.tickets.backend.dto.event.EventPageResponse;
+import com.tickets.backend.dto.event.EventResponse;
+import com.tickets.backend.dto.event.PurchaserPageResponse;
+import com.tickets.backend.dto.event.PurchaserResponse;
 import com.tickets.backend.model.Event;
+import com.tickets.backend.model.EventSalesHourly;
+import com.tickets.backend.model.EventSalesHourlyId;
+import com.tickets.backend.model.EventSalesRollup;
 import com.tickets.backend.model.Purchase;
 import com.tickets.backend.model.Role;
 import com.tickets.backend.model.Ticket;
@@ -10,40 +17,69 @@ import com.tickets.backend.model.TicketStatus;
 import com.tickets.backend.model.User;
 import com.tickets.backend.model.UserRole;
 import com.tickets.backend.model.Venue;
-import com.tickets.backend.repository.PurchaseRepository;
+import com.tickets.backend.repository.projection.ResourceVersionView;
 import com.tickets.backend.service.AuditService;
+import com.tickets.backend.service.AvailabilityStream;
 import com.tickets.backend.service.CurrentUserService;
+import com.tickets.backend.service.EventCatalog;
+import com.tickets.backend.service.EventQueryService;
+import com.tickets.backend.service.EventSearchService;
 import com.tickets.backend.service.EventService;
+import com.tickets.backend.service.PurchaseGate;
 import com.tickets.backend.service.PurchaseService;
+import com.tickets.backend.service.PurchaserExportService;
+import com.tickets.backend.service.PurchaserQueryService;
+import com.tickets.backend.service.ResourceEtags;
+import com.tickets.backend.service.SalesRollupService;
 import com.tickets.backend.service.UserService;
 import com.tickets.backend.service.exception.EventNotFoundException;
+import com.tickets.backend.service.model.EventCatalogSnapshot;
+import com.tickets.backend.service.model.EventFilter;
 import com.tickets.backend.service.model.PurchaseResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,7 +92,10 @@ class EventControllerTest {
     private PurchaseService purchaseService;
 
     @Mock
-    private PurchaseRepository purchaseRepository;
+    private PurchaserExportService purchaserExportService;
+
+    @Mock
+    private PurchaserQueryService purchaserQueryService;
 
     @Mock
     private AuditService auditService;
@@ -67,6 +106,27 @@ class EventControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @Mock
+    private EventCatalog eventCatalog;
+
+    @Spy
+    private ResourceEtags resourceEtags = new ResourceEtags();
+
+    @Mock
+    private AvailabilityStream availabilityStream;
+
+    @Mock
+    private EventQueryService eventQueryService;
+
+    @Mock
+    private EventSearchService eventSearchService;
+
+    @Spy
+    private PurchaseGate purchaseGate = new PurchaseGate();
+
     @InjectMocks
     private EventController eventController;
 
@@ -100,39 +160,145 @@ class EventControllerTest {
     }
 
     @Test
-    void listEventsReturnsUpcomingEvents() throws Exception {
-        when(eventService.listUpcoming()).thenReturn(List.of(event));
+    void listEventsServesCatalogSnapshot() throws Exception {
+        when(eventCatalog.snapshot()).thenReturn(catalogSnapshot());
 
         mockMvc.perform(get("/api/events"))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
             .andExpect(jsonPath("$", hasSize(1)))
             .andExpect(jsonPath("$[0].title", is("Concert")));
     }
 
+    @Test
+    void listEventsReturnsNotModifiedForMatchingEtag() throws Exception {
+        when(eventCatalog.snapshot()).thenReturn(catalogSnapshot());
+
+        mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     void listVenueEventsReturnsEventsForVenue() throws Exception {
+        when(eventService.getVenueEventsVersion(venue.getId())).thenReturn(versionView(1, 3));
         when(eventService.listByVenue(venue.getId())).thenReturn(List.of(event));
 
         mockMvc.perform(get("/api/venues/{venueId}/events", venue.getId()))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
             .andExpect(jsonPath("$", hasSize(1)))
             .andExpect(jsonPath("$[0].venueId", is(venue.getId().toString())));
     }
 
+    @Test
+    void listVenueEventsReturnsNotModifiedWithoutLoadingEvents() throws Exception {
+        when(eventService.getVenueEventsVersion(venue.getId())).thenReturn(versionView(1, 3));
+
+        mockMvc.perform(get("/api/venues/{venueId}/events", venue.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+
+        verify(eventService, never()).listByVenue(venue.getId());
+    }
+
     @Test
     void getEventReturnsSingleEvent() throws Exception {
         when(eventService.getById(event.getId())).thenReturn(event);
 
         mockMvc.perform(get("/api/events/{eventId}", event.getId()))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, resourceEtags.of(event)))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("must-revalidate")))
             .andExpect(jsonPath("$.title", is("Concert")));
+
+        verify(eventService, never()).findVersion(event.getId());
+    }
+
+    @Test
+    void browseEventsPassesFiltersAndReturnsPage() throws Exception {
+        EventFilter filter = new EventFilter(
+            venue.getId(),
+            OffsetDateTime.parse("2026-06-01T00:00:00Z"),
+            null,
+            null,
+            5000,
+            true
+        );
+        when(eventQueryService.page(filter, "abc", 20))
+            .thenReturn(new EventPageResponse(List.of(EventResponse.fromModel(event)), "next"));
+
+        mockMvc.perform(get("/api/events/browse")
+                .param("venueId", venue.getId().toString())
+                .param("from", "2026-06-01T00:00:00Z")
+                .param("maxPriceCents", "5000")
+                .param("available", "true")
+                .param("cursor", "abc")
+                .param("limit", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].title", is("Concert")))
+            .andExpect(jsonPath("$.nextCursor", is("next")));
+    }
+
+    @Test
+    void searchEventsReturnsRankedMatches() throws Exception {
+        when(eventSearchService.search("conc", 5)).thenReturn(List.of(EventResponse.fromModel(event)));
+
+        mockMvc.perform(get("/api/events/search").param("q", "conc").param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].title", is("Concert")));
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void streamAvailabilityOpensEventStream() throws Exception {
+        when(availabilityStream.subscribe(event.getId())).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/events/{eventId}/availability", event.getId())
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andExpect(header().string("X-Accel-Buffering", "no"));
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void getEventReturnsNotModifiedWithoutLoadingTheEvent() throws Exception {
+        when(eventService.findVersion(event.getId())).thenReturn(Optional.of(4L));
+
+        mockMvc.perform(get("/api/events/{eventId}", event.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"e0\", W/\"4\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+            .andExpect(content().bytes(new byte[0]));
+
+        verify(eventService, never()).getById(event.getId());
+    }
+
+    @Test
+    void getEventEtagChangesWhenTicketsAreSold() throws Exception {
+        String before = resourceEtags.of(event);
+        event.setTicketsSold(event.getTicketsSold() + 1);
+        event.markChanged();
+        when(eventService.findVersion(event.getId())).thenReturn(Optional.of(event.getVersion()));
+        when(eventService.getById(event.getId())).thenReturn(event);
+
+        mockMvc.perform(get("/api/events/{eventId}", event.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, before))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(before)));
     }
 
     @Test
     void getEventReturns404WhenMissing() throws Exception {
+        when(eventService.findVersion(event.getId())).thenReturn(Optional.empty());
         when(eventService.getById(event.getId())).thenThrow(new EventNotFoundException(event.getId()));
 
-        mockMvc.perform(get("/api/events/{eventId}", event.getId()))
+        mockMvc.perform(get("/api/events/{eventId}", event.getId()).header(HttpHeaders.IF_NONE_MATCH, "*"))
             .andExpect(status().isNotFound())
             .andExpect(jsonPath("$.code", is("not_found")));
     }
@@ -195,86 +361,116 @@ class EventControllerTest {
     }
 
     @Test
-    void purchasersReturnsJsonList() throws Exception {
+    void purchasersReturnsJsonPage() throws Exception {
         User manager = userWithRole("ROLE_MANAGER");
         when(currentUserService.requireCurrentUser()).thenReturn(manager);
         when(eventService.getById(event.getId())).thenReturn(event);
         when(userService.getManagedVenues(manager.getId())).thenReturn(List.of(venue));
-        User namelessManager = User.builder()
-            .id(manager.getId())
-            .email(manager.getEmail())
-            .displayName(null)
-            .userRoles(manager.getUserRoles())
-            .build();
-
-        when(purchaseRepository.findAllByEventIdWithUser(event.getId())).thenReturn(List.of(
-            Purchase.builder()
-                .id(UUID.randomUUID())
-                .event(event)
-                .user(namelessManager)
-                .quantity(2)
-                .totalAmountCents(7000)
-                .idempotencyKey("key")
-                .build()
+        when(purchaserQueryService.page(event.getId(), "abc", "role_", 25, true)).thenReturn(new PurchaserPageResponse(
+            List.of(new PurchaserResponse(manager.getEmail(), null, 2, 7000, Instant.now().toString())),
+            "next",
+            1L
         ));
 
         mockMvc.perform(get("/api/events/{eventId}/purchasers", event.getId())
-                .accept(MediaType.APPLICATION_JSON))
+                .accept(MediaType.APPLICATION_JSON)
+                .param("cursor", "abc")
+                .param("email", "role_")
+                .param("limit", "25")
+                .param("includeTotal", "true"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$", hasSize(1)))
-            .andExpect(jsonPath("$[0].email", is(manager.getEmail())));
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].email", is(manager.getEmail())))
+            .andExpect(jsonPath("$.nextCursor", is("next")))
+            .andExpect(jsonPath("$.totalCount", is(1)));
+    }
+
+    @Test
+    void purchasersStreamsNdjsonFromExportService() throws Exception {
+        User admin = userWithRole("ROLE_ADMIN");
+        when(currentUserService.requireCurrentUser()).thenReturn(admin);
+        when(eventService.getById(event.getId())).thenReturn(event);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"email\":\"a@example.com\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(purchaserExportService).writeNdjson(eq(event.getId()), any(OutputStream.class));
+
+        mockMvc.perform(get("/api/events/{eventId}/purchasers", event.getId())
+                .accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string("{\"email\":\"a@example.com\"}\n"));
     }
 
     @Test
     void purchasersCsvReturnsAttachment() throws Exception {
         User admin = userWithRole("ROLE_ADMIN");
-        admin.setDisplayName("Admin, \"Jazz\"");
         when(currentUserService.requireCurrentUser()).thenReturn(admin);
         when(eventService.getById(event.getId())).thenReturn(event);
-        User nullNameUser = userWithRole("ROLE_MANAGER");
-        nullNameUser.setDisplayName(null);
-
-        User plainUser = userWithRole("ROLE_USER");
-        plainUser.setDisplayName("Plain");
-
-        when(purchaseRepository.findAllByEventIdWithUser(event.getId())).thenReturn(List.of(
-            Purchase.builder()
-                .id(UUID.randomUUID())
-                .event(event)
-                .user(admin)
-                .quantity(1)
-                .totalAmountCents(3500)
-                .idempotencyKey("key")
-                .build(),
-            Purchase.builder()
-                .id(UUID.randomUUID())
-                .event(event)
-                .user(nullNameUser)
-                .quantity(1)
-                .totalAmountCents(3500)
-                .idempotencyKey("key-2")
-                .build(),
-            Purchase.builder()
-                .id(UUID.randomUUID())
-                .event(event)
-                .user(plainUser)
-                .quantity(1)
-                .totalAmountCents(3500)
-                .idempotencyKey("key-3")
-                .build()
-        ));
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("email,display_name\nrole_user@example.com,Plain\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(purchaserExportService).writeCsv(eq(event.getId()), any(OutputStream.class));
 
         MvcResult result = mockMvc.perform(get("/api/events/{eventId}/purchasers", event.getId())
                 .accept("text/csv"))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=purchasers.csv"))
             .andReturn();
 
-        String csv = result.getResponse().getContentAsString();
-        assertThat(csv)
+        assertThat(result.getResponse().getContentAsString())
             .contains("email,display_name")
-            .contains(",\"Admin, \"\"Jazz\"\"\",")
-            .contains("role_manager@example.com,,1,3500")
-            .contains("role_user@example.com,Plain,1,3500");
+            .contains("role_user@example.com,Plain");
+    }
+
+    @Test
+    void purchasersCsvIsGzippedWhenAccepted() throws Exception {
+        User admin = userWithRole("ROLE_ADMIN");
+        when(currentUserService.requireCurrentUser()).thenReturn(admin);
+        when(eventService.getById(event.getId())).thenReturn(event);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("email,display_name\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(purchaserExportService).writeCsv(eq(event.getId()), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/events/{eventId}/purchasers", event.getId())
+                .accept("text/csv")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("email,display_name\n");
+        }
+    }
+
+    @Test
+    void salesReturnsRollupWithHourlyBuckets() throws Exception {
+        User admin = userWithRole("ROLE_ADMIN");
+        when(currentUserService.requireCurrentUser()).thenReturn(admin);
+        when(eventService.getById(event.getId())).thenReturn(event);
+        when(salesRollupService.getRollup(event.getId())).thenReturn(EventSalesRollup.builder()
+            .eventId(event.getId())
+            .ticketsSold(5)
+            .revenueCents(17500)
+            .purchaseCount(2)
+            .build());
+        when(salesRollupService.getHourly(event.getId())).thenReturn(List.of(EventSalesHourly.builder()
+            .id(new EventSalesHourlyId(event.getId(), Instant.now().truncatedTo(ChronoUnit.HOURS)))
+            .ticketsSold(5)
+            .revenueCents(17500)
+            .purchaseCount(2)
+            .build()));
+
+        mockMvc.perform(get("/api/events/{eventId}/sales", event.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.revenueCents", is(17500)))
+            .andExpect(jsonPath("$.purchaseCount", is(2)))
+            .andExpect(jsonPath("$.hourly", hasSize(1)));
     }
 
     @Test
@@ -325,6 +521,26 @@ class EventControllerTest {
             .andExpect(jsonPath("$.code", is("bad_request")));
     }
 
+    private EventCatalogSnapshot catalogSnapshot() throws Exception {
+        List<EventResponse> events = List.of(EventResponse.fromModel(event));
+        return new EventCatalogSnapshot(1L, events, objectMapper.writeValueAsBytes(events), "\"v1\"",
+            Instant.now().plusSeconds(5));
+    }
+
+    private static ResourceVersionView versionView(long entries, long versionSum) {
+        return new ResourceVersionView() {
+            @Override
+            public long getEntries() {
+                return entries;
+            }
+
+            @Override
+            public long getVersionSum() {
+                return versionSum;
+            }
+        };
+    }
+
     private User userWithRole(String roleName) {
         Role role = Role.builder().id(roleName.hashCode() & 0xffffL).name(roleName).build();
         User user = User.builder()
@@ -0,0 +1,35 @@
+package com.tickets.backend.controller;
+
+import com.tickets.backend.config.StatementCounter;
+import org.assertj.core.api.AbstractIntegerAssert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts how many SQL statements an action issues, e.g.
+ * {@code budget.statementsFor("GET /api/events", () -> mockMvc.perform(get("/api/events"))).isLessThanOrEqualTo(2)}.
+ */
+final class StatementBudget {
+
+    private final StatementCounter counter;
+
+    StatementBudget(StatementCounter counter) {
+        this.counter = counter;
+    }
+
+    AbstractIntegerAssert<?> statementsFor(String description, Action action) throws Exception {
+        return assertThat(count(action)).as("SQL statements for %s", description);
+    }
+
+    int count(Action action) throws Exception {
+        try (StatementCounter.Scope scope = counter.start()) {
+            action.run();
+            return scope.count();
+        }
+    }
+
+    @FunctionalInterface
+    interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,168 @@
+package com.tickets.backend.controller;
+
+import com.tickets.backend.config.StatementCounter;
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.User;
+import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.UserRepository;
+import com.tickets.backend.repository.VenueRepository;
+import com.tickets.backend.service.model.EventCatalogChanged;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for read endpoints. Each budget is measured with one event and again with many,
+ * so an N+1 regression fails here rather than under production load.
+ */
+@SpringBootTest(properties = "diagnostics.statement-count-header=true")
+class StatementBudgetTest {
+
+    private static final int MANY = 10;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private StatementCountFilter statementCountFilter;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private MockMvc mockMvc;
+    private StatementBudget budget;
+    private Venue venue;
+    private User user;
+    private final List<Event> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+            .addFilters(statementCountFilter)
+            .apply(springSecurity())
+            .build();
+        budget = new StatementBudget(statementCounter);
+        venue = venueRepository.save(Venue.builder()
+            .id(UUID.randomUUID())
+            .name("Budget Hall")
+            .location("City")
+            .build());
+        user = userRepository.save(User.builder()
+            .id(UUID.randomUUID())
+            .email("budget-" + UUID.randomUUID() + "@example.com")
+            .displayName("Budget")
+            .build());
+        addEvents(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll(events);
+        venueRepository.delete(venue);
+        userRepository.delete(user);
+    }
+
+    @Test
+    void eventListingDoesNotGrowWithEvents() throws Exception {
+        int few = budget.count(() -> mockMvc.perform(get("/api/events").with(user(user.getEmail())))
+            .andExpect(status().isOk()));
+        addEvents(MANY);
+
+        budget.statementsFor("GET /api/events", () -> mockMvc.perform(get("/api/events").with(user(user.getEmail())))
+                .andExpect(status().isOk()))
+            .isEqualTo(few)
+            .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void venueEventsDoNotGrowWithEvents() throws Exception {
+        String path = "/api/venues/" + venue.getId() + "/events";
+        int few = budget.count(() -> mockMvc.perform(get(path).with(user(user.getEmail())))
+            .andExpect(status().isOk()));
+        addEvents(MANY);
+
+        budget.statementsFor("GET " + path, () -> mockMvc.perform(get(path).with(user(user.getEmail())))
+                .andExpect(status().isOk()))
+            .isEqualTo(few)
+            .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void browseDoesNotGrowWithEvents() throws Exception {
+        String path = "/api/events/browse?venueId=" + venue.getId();
+        int few = budget.count(() -> mockMvc.perform(get(path).with(user(user.getEmail())))
+            .andExpect(status().isOk()));
+        addEvents(MANY);
+
+        budget.statementsFor("GET /api/events/browse", () -> mockMvc.perform(get(path).with(user(user.getEmail())))
+                .andExpect(status().isOk()))
+            .isEqualTo(few)
+            .isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void currentUserStaysWithinBudget() throws Exception {
+        budget.statementsFor("GET /api/me", () -> mockMvc.perform(get("/api/me").with(user(user.getEmail())))
+                .andExpect(status().isOk()))
+            .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void statementCountIsReturnedAsHeader() throws Exception {
+        String count = mockMvc.perform(get("/api/me").with(user(user.getEmail())))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(StatementCountFilter.HEADER))
+            .andReturn()
+            .getResponse()
+            .getHeader(StatementCountFilter.HEADER);
+
+        assertThat(Integer.parseInt(count)).isPositive();
+    }
+
+    private void addEvents(int count) {
+        OffsetDateTime startsAt = OffsetDateTime.now().plusDays(1);
+        for (int i = 0; i < count; i++) {
+            Event event = eventRepository.save(Event.builder()
+                .id(UUID.randomUUID())
+                .venue(venue)
+                .title("Budget show " + events.size())
+                .startsAt(startsAt.plusHours(events.size()))
+                .endsAt(startsAt.plusHours(events.size() + 1))
+                .faceValueCents(1000)
+                .build());
+            events.add(event);
+            eventPublisher.publishEvent(new EventCatalogChanged(event.getId(), venue.getId()));
+        }
+    }
+}
@@ -4,15 +4,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tickets.backend.dto.venue.CreateVenueRequest;
 import com.tickets.backend.model.User;
 import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.projection.ResourceVersionView;
 import com.tickets.backend.service.AuditService;
 import com.tickets.backend.service.CurrentUserService;
+import com.tickets.backend.service.ResourceEtags;
 import com.tickets.backend.service.VenueService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -22,10 +26,12 @@ import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +47,9 @@ class VenueControllerTest {
     @Mock
     private CurrentUserService currentUserService;
 
+    @Spy
+    private ResourceEtags resourceEtags = new ResourceEtags();
+
     @InjectMocks
     private VenueController venueController;
 
@@ -64,14 +73,38 @@ class VenueControllerTest {
 
     @Test
     void listVenuesReturnsCollection() throws Exception {
+        when(venueService.getVersion()).thenReturn(versionView(1, 0));
         when(venueService.findAll()).thenReturn(List.of(venue));
 
         mockMvc.perform(get("/api/venues"))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1-0\""))
             .andExpect(jsonPath("$", hasSize(1)))
             .andExpect(jsonPath("$[0].name", is("Main Hall")));
     }
 
+    @Test
+    void listVenuesReturnsNotModifiedWithoutLoadingVenues() throws Exception {
+        when(venueService.getVersion()).thenReturn(versionView(1, 0));
+
+        mockMvc.perform(get("/api/venues").header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1-0\""));
+
+        verify(venueService, never()).findAll();
+    }
+
+    @Test
+    void listVenuesEtagChangesWhenAVenueIsAdded() throws Exception {
+        when(venueService.getVersion()).thenReturn(versionView(2, 0));
+        when(venueService.findAll()).thenReturn(List.of(venue, venue));
+
+        mockMvc.perform(get("/api/venues").header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2-0\""))
+            .andExpect(jsonPath("$", hasSize(2)));
+    }
+
     @Test
     void createVenueCreatesWhenAdmin() throws Exception {
         User admin = User.builder()
@@ -92,4 +125,18 @@ class VenueControllerTest {
 
         verify(auditService).log("admin@example.com", "VENUE_CREATED", "VENUE", venue.getId(), venue.getName());
     }
+
+    private static ResourceVersionView versionView(long entries, long versionSum) {
+        return new ResourceVersionView() {
+            @Override
+            public long getEntries() {
+                return entries;
+            }
+
+            @Override
+            public long getVersionSum() {
+                return versionSum;
+            }
+        };
+    }
 }
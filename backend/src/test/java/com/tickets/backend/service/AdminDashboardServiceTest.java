@@ -0,0 +1,116 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.EventSalesRollup;
+import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.EventSalesRollupRepository;
+import com.tickets.backend.repository.VenueRepository;
+import com.tickets.backend.repository.projection.EventRevenueView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class AdminDashboardServiceTest {
+
+    @Autowired
+    private AdminDashboardService adminDashboardService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventSalesRollupRepository rollupRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void loadEventRevenueReadsRollupPerEvent() {
+        seed(2, 2, 1500);
+        venueRepository.save(Venue.builder().id(UUID.randomUUID()).name("zz Empty").build());
+
+        List<EventRevenueView> rows = measure();
+
+        assertThat(rows).hasSize(5);
+        assertThat(rows).filteredOn(row -> row.getEventId() != null)
+            .extracting(EventRevenueView::getRevenueCents)
+            .containsOnly(3000L);
+        assertThat(rows.getLast().getEventId()).isNull();
+    }
+
+    @Test
+    void statementCountStaysConstantAsCatalogGrows() {
+        seed(1, 1, 1000);
+        measure();
+        long small = statistics.getPrepareStatementCount();
+
+        seed(10, 8, 1000);
+        measure();
+        long large = statistics.getPrepareStatementCount();
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    private List<EventRevenueView> measure() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return adminDashboardService.loadEventRevenue();
+    }
+
+    private void seed(int venues, int eventsPerVenue, int purchaseAmount) {
+        for (int v = 0; v < venues; v++) {
+            Venue venue = venueRepository.save(Venue.builder()
+                .id(UUID.randomUUID())
+                .name("Venue " + UUID.randomUUID())
+                .location("City")
+                .build());
+            for (int e = 0; e < eventsPerVenue; e++) {
+                Event event = eventRepository.save(Event.builder()
+                    .id(UUID.randomUUID())
+                    .venue(venue)
+                    .title("Event " + e)
+                    .startsAt(OffsetDateTime.now().plusDays(e + 1))
+                    .endsAt(OffsetDateTime.now().plusDays(e + 1).plusHours(2))
+                    .faceValueCents(purchaseAmount)
+                    .build());
+                rollupRepository.save(EventSalesRollup.builder()
+                    .eventId(event.getId())
+                    .ticketsSold(2)
+                    .revenueCents(2L * purchaseAmount)
+                    .purchaseCount(2)
+                    .build());
+            }
+        }
+    }
+}
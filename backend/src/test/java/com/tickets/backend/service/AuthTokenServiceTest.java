@@ -2,8 +2,10 @@ package com.tickets.backend.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tickets.backend.dto.auth.TokenPayload;
+import com.tickets.backend.service.model.VerifiedToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
 import java.util.List;
 
@@ -46,5 +48,73 @@ class AuthTokenServiceTest {
         assertThatThrownBy(() -> authTokenService.parseToken("not-a-token"))
             .isInstanceOf(IllegalArgumentException.class);
     }
-}
 
+    @Test
+    void verifyReadsTokenInPlaceAndReusesVerifiedToken() {
+        TokenPayload payload = new TokenPayload("user@example.com", "User", List.of("ROLE_USER"));
+        String header = "Bearer " + authTokenService.generateToken(payload);
+
+        VerifiedToken first = authTokenService.verify(header, 7, header.length());
+        VerifiedToken second = authTokenService.verify(header, 7, header.length());
+
+        assertThat(first.payload()).isEqualTo(payload);
+        assertThat(second).isSameAs(first);
+        assertThat(first.newAuthentication().getName()).isEqualTo("user@example.com");
+        assertThat(first.newAuthentication().getDetails()).isEqualTo(payload);
+    }
+
+    @Test
+    void eachRequestGetsItsOwnAuthentication() {
+        String token = authTokenService.generateToken(new TokenPayload("user@example.com", "User", List.of("ROLE_USER")));
+        VerifiedToken verified = authTokenService.verify(token, 0, token.length());
+
+        UsernamePasswordAuthenticationToken first = verified.newAuthentication();
+        first.setDetails("changed by a downstream filter");
+        first.setAuthenticated(false);
+        UsernamePasswordAuthenticationToken second = authTokenService.verify(token, 0, token.length()).newAuthentication();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getDetails()).isEqualTo(verified.payload());
+        assertThatThrownBy(() -> verified.payload().roles().add("ROLE_ADMIN"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void authoritiesAreSharedPerRoleCombination() {
+        String alice = authTokenService.generateToken(
+            new TokenPayload("alice@example.com", "Alice", List.of("ROLE_USER", "ROLE_ADMIN")));
+        String bob = authTokenService.generateToken(
+            new TokenPayload("bob@example.com", "Bob", List.of("ROLE_USER", "ROLE_ADMIN")));
+
+        VerifiedToken aliceToken = authTokenService.verify(alice, 0, alice.length());
+        VerifiedToken bobToken = authTokenService.verify(bob, 0, bob.length());
+
+        assertThat(aliceToken.authorities())
+            .extracting(Object::toString)
+            .containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(bobToken.authorities().iterator().next())
+            .isSameAs(aliceToken.authorities().iterator().next());
+    }
+
+    @Test
+    void verifyRejectsSignatureFromAnotherPayload() {
+        String token = authTokenService.generateToken(new TokenPayload("user@example.com", "User", List.of("ROLE_USER")));
+        String other = authTokenService.generateToken(new TokenPayload("admin@example.com", "Admin", List.of("ROLE_ADMIN")));
+        authTokenService.parseToken(token);
+
+        String forged = other.substring(0, other.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertThatThrownBy(() -> authTokenService.parseToken(forged))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Token signature invalid");
+    }
+
+    @Test
+    void verifyRejectsOversizedToken() {
+        String token = "a".repeat(AuthTokenService.MAX_TOKEN_LENGTH) + ".sig";
+
+        assertThatThrownBy(() -> authTokenService.parseToken(token))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.tickets.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.projection.EventAvailabilityView;
+import com.tickets.backend.service.exception.EventNotFoundException;
+import com.tickets.backend.service.model.EventCatalogChanged;
+import com.tickets.backend.service.model.TicketsSold;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityStreamTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private AvailabilityStream stream;
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        stream = new AvailabilityStream(eventRepository, new ObjectMapper(), Duration.ofMinutes(1));
+        eventId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.close();
+    }
+
+    @Test
+    void subscribeRejectsUnknownEvent() {
+        when(eventRepository.findAvailability(List.of(eventId))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> stream.subscribe(eventId)).isInstanceOf(EventNotFoundException.class);
+        assertThat(stream.subscriberCount(eventId)).isZero();
+    }
+
+    @Test
+    void burstOfChangesIsCoalescedIntoOneReadPerFlush() {
+        when(eventRepository.findAvailability(anyCollection())).thenReturn(List.of(view(eventId, 100, 10)));
+        stream.subscribe(eventId);
+        stream.subscribe(eventId);
+
+        stream.onCatalogChanged(new EventCatalogChanged(eventId, UUID.randomUUID()));
+        stream.onCatalogChanged(new EventCatalogChanged(eventId, UUID.randomUUID()));
+        stream.onCatalogChanged(new EventCatalogChanged(eventId, UUID.randomUUID()));
+        stream.flush();
+        stream.flush();
+
+        assertThat(stream.subscriberCount(eventId)).isEqualTo(2);
+        verify(eventRepository, times(3)).findAvailability(anyCollection());
+    }
+
+    @Test
+    void ticketSalesAreStreamedToSubscribers() {
+        when(eventRepository.findAvailability(anyCollection())).thenReturn(List.of(view(eventId, 100, 10)));
+        stream.subscribe(eventId);
+
+        stream.onTicketsSold(new TicketsSold(eventId, UUID.randomUUID(), 2));
+        stream.flush();
+
+        verify(eventRepository, times(2)).findAvailability(anyCollection());
+    }
+
+    @Test
+    void changesToEventsWithoutSubscribersAreIgnored() {
+        stream.onCatalogChanged(new EventCatalogChanged(eventId, UUID.randomUUID()));
+        stream.flush();
+
+        verify(eventRepository, never()).findAvailability(anyCollection());
+    }
+
+    @Test
+    void resyncRereadsSubscribedEvents() {
+        when(eventRepository.findAvailability(anyCollection())).thenReturn(List.of(view(eventId, 50, 0)));
+        stream.subscribe(eventId);
+
+        stream.resync();
+        stream.flush();
+
+        verify(eventRepository, times(2)).findAvailability(eq(List.of(eventId)));
+    }
+
+    private static EventAvailabilityView view(UUID id, int total, int sold) {
+        return new EventAvailabilityView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public int getTicketsTotal() {
+                return total;
+            }
+
+            @Override
+            public int getTicketsSold() {
+                return sold;
+            }
+        };
+    }
+}
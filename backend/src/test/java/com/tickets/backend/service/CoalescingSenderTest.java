@@ -0,0 +1,75 @@
+package com.tickets.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingSenderTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<String> sent = new ArrayList<>();
+
+    @Test
+    void valuesOfferedBeforeTheWriterRunsCollapseToTheNewest() {
+        CoalescingSender<String> sender = new CoalescingSender<>(tasks::add, sent::add);
+
+        sender.offer("90 left");
+        sender.offer("80 left");
+        sender.offer("sold out");
+
+        assertThat(tasks).hasSize(1);
+        runTasks();
+        assertThat(sent).containsExactly("sold out");
+    }
+
+    @Test
+    void valueOfferedDuringASendFollowsItFromTheSameWriter() {
+        AtomicReference<CoalescingSender<String>> sender = new AtomicReference<>();
+        sender.set(new CoalescingSender<>(tasks::add, value -> {
+            sent.add(value);
+            if (value.equals("90 left")) {
+                sender.get().offer("sold out");
+            }
+            return true;
+        }));
+
+        sender.get().offer("90 left");
+        runTasks();
+
+        assertThat(sent).containsExactly("90 left", "sold out");
+    }
+
+    @Test
+    void heartbeatsNeverDisplaceAPendingValue() {
+        CoalescingSender<String> sender = new CoalescingSender<>(tasks::add, sent::add);
+
+        sender.offer("sold out");
+        sender.offerIfEmpty("heartbeat");
+        runTasks();
+        sender.offerIfEmpty("heartbeat");
+        runTasks();
+
+        assertThat(sent).containsExactly("sold out", "heartbeat");
+    }
+
+    @Test
+    void nothingIsScheduledOnceTheConsumerIsGone() {
+        CoalescingSender<String> sender = new CoalescingSender<>(tasks::add, value -> false);
+
+        sender.offer("90 left");
+        runTasks();
+        sender.offer("sold out");
+
+        assertThat(tasks).isEmpty();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.removeFirst().run();
+        }
+    }
+}
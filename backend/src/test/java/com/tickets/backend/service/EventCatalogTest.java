@@ -0,0 +1,122 @@
+package com.tickets.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.service.model.EventCatalogChanged;
+import com.tickets.backend.service.model.EventCatalogSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventCatalogTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private ObjectMapper objectMapper;
+    private EventCatalog catalog;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        catalog = new EventCatalog(eventRepository, objectMapper, Duration.ofMinutes(5));
+        Venue venue = Venue.builder().id(UUID.randomUUID()).name("Hall").build();
+        event = Event.builder()
+            .id(UUID.randomUUID())
+            .venue(venue)
+            .title("Concert")
+            .startsAt(OffsetDateTime.now().plusDays(2))
+            .endsAt(OffsetDateTime.now().plusDays(2).plusHours(2))
+            .faceValueCents(2500)
+            .build();
+    }
+
+    @Test
+    void snapshotIsServedFromMemoryUntilInvalidated() throws Exception {
+        when(eventRepository.findUpcoming(any(OffsetDateTime.class))).thenReturn(List.of(event));
+
+        EventCatalogSnapshot first = catalog.snapshot();
+        EventCatalogSnapshot second = catalog.snapshot();
+
+        assertThat(second).isSameAs(first);
+        verify(eventRepository, times(1)).findUpcoming(any(OffsetDateTime.class));
+        JsonNode json = objectMapper.readTree(first.json());
+        assertThat(json.get(0).get("venueName").asText()).isEqualTo("Hall");
+        assertThat(json.get(0).get("startsAt").isTextual()).isTrue();
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void catalogChangeForcesRebuild() {
+        when(eventRepository.findUpcoming(any(OffsetDateTime.class))).thenReturn(List.of(event));
+        EventCatalogSnapshot first = catalog.snapshot();
+
+        catalog.onCatalogChanged(new EventCatalogChanged(event.getId(), event.getVenue().getId()));
+        EventCatalogSnapshot second = catalog.snapshot();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.etag()).isEqualTo(first.etag());
+        verify(eventRepository, times(2)).findUpcoming(any(OffsetDateTime.class));
+    }
+
+    @Test
+    void readersGetThePreviousSnapshotWhileAnotherThreadRebuilds() throws Exception {
+        CountDownLatch rebuildStarted = new CountDownLatch(1);
+        CountDownLatch releaseRebuild = new CountDownLatch(1);
+        when(eventRepository.findUpcoming(any(OffsetDateTime.class)))
+            .thenReturn(List.of(event))
+            .thenAnswer(invocation -> {
+                rebuildStarted.countDown();
+                releaseRebuild.await();
+                return List.of(event);
+            });
+        EventCatalogSnapshot first = catalog.snapshot();
+        catalog.onCatalogChanged(new EventCatalogChanged(event.getId(), event.getVenue().getId()));
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<EventCatalogSnapshot> rebuilt = executor.submit(catalog::snapshot);
+            assertThat(rebuildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(catalog.snapshot()).isSameAs(first);
+
+            releaseRebuild.countDown();
+            assertThat(rebuilt.get(5, TimeUnit.SECONDS)).isNotSameAs(first);
+        }
+        assertThat(catalog.snapshot()).isNotSameAs(first);
+        verify(eventRepository, times(2)).findUpcoming(any(OffsetDateTime.class));
+    }
+
+    @Test
+    void snapshotExpiresWhenFirstEventStarts() {
+        event.setStartsAt(OffsetDateTime.now().plusMinutes(1));
+        when(eventRepository.findUpcoming(any(OffsetDateTime.class))).thenReturn(List.of(event));
+
+        EventCatalogSnapshot snapshot = catalog.snapshot();
+
+        assertThat(snapshot.validUntil()).isEqualTo(event.getStartsAt().toInstant());
+    }
+}
@@ -0,0 +1,150 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.dto.event.EventPageResponse;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.projection.EventListingView;
+import com.tickets.backend.service.model.EventCursor;
+import com.tickets.backend.service.model.EventFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventQueryServiceTest {
+
+    private static final OffsetDateTime FROM = OffsetDateTime.parse("2026-06-01T00:00:00Z");
+    private static final OffsetDateTime TO = OffsetDateTime.parse("2026-07-01T00:00:00Z");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private EventQueryService eventQueryService;
+
+    @Test
+    void firstPageSeeksFromRangeStartAndReturnsNextCursor() {
+        EventListingView a = view(OffsetDateTime.parse("2026-06-02T18:00:00Z"));
+        EventListingView b = view(OffsetDateTime.parse("2026-06-03T18:00:00Z"));
+        EventListingView c = view(OffsetDateTime.parse("2026-06-04T18:00:00Z"));
+        when(eventRepository.findListingsAfter(FROM, new UUID(0L, 0L), TO, 1000, 5000, 1, PageRequest.of(0, 3)))
+            .thenReturn(List.of(a, b, c));
+
+        EventPageResponse page = eventQueryService.page(
+            new EventFilter(null, FROM, TO, 1000, 5000, true), null, 2);
+
+        assertThat(page.items()).extracting(item -> item.id()).containsExactly(a.getId(), b.getId());
+        EventCursor next = EventCursor.decode(page.nextCursor());
+        assertThat(next.startsAt().toInstant()).isEqualTo(b.getStartsAt().toInstant());
+        assertThat(next.id()).isEqualTo(b.getId());
+    }
+
+    @Test
+    void venueFilterUsesVenueQueryAndOpenBoundsForUnsetFilters() {
+        UUID venueId = UUID.randomUUID();
+        EventCursor cursor = new EventCursor(OffsetDateTime.parse("2026-06-05T18:00:00Z"), UUID.randomUUID());
+        when(eventRepository.findVenueListingsAfter(eq(venueId), eq(cursor.startsAt()), eq(cursor.id()),
+            any(OffsetDateTime.class), eq(0), eq(Integer.MAX_VALUE), eq(0), eq(PageRequest.of(0, 51))))
+            .thenReturn(List.of());
+
+        EventPageResponse page = eventQueryService.page(
+            new EventFilter(venueId, FROM, null, null, null, false), cursor.encode(), 50);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void cursorBeforeTheRangeStartIsClampedToIt() {
+        EventCursor stale = new EventCursor(OffsetDateTime.parse("2026-05-01T18:00:00Z"), UUID.randomUUID());
+        when(eventRepository.findListingsAfter(FROM, new UUID(0L, 0L), TO, 0, Integer.MAX_VALUE, 0, PageRequest.of(0, 11)))
+            .thenReturn(List.of());
+
+        EventPageResponse page = eventQueryService.page(
+            new EventFilter(null, FROM, TO, null, null, false), stale.encode(), 10);
+
+        assertThat(page.items()).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidRangesAndLimits() {
+        assertThatThrownBy(() -> eventQueryService.page(new EventFilter(null, TO, FROM, null, null, false), null, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> eventQueryService.page(new EventFilter(null, FROM, TO, 5000, 1000, false), null, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> eventQueryService.page(new EventFilter(null, FROM, TO, null, null, false), null, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> eventQueryService.page(new EventFilter(null, FROM, TO, null, null, false), "%%%", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(eventRepository);
+    }
+
+    private static EventListingView view(OffsetDateTime startsAt) {
+        UUID id = UUID.randomUUID();
+        UUID venueId = UUID.randomUUID();
+        return new EventListingView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public UUID getVenueId() {
+                return venueId;
+            }
+
+            @Override
+            public String getVenueName() {
+                return "Hall";
+            }
+
+            @Override
+            public String getTitle() {
+                return "Concert";
+            }
+
+            @Override
+            public String getDescription() {
+                return null;
+            }
+
+            @Override
+            public OffsetDateTime getStartsAt() {
+                return startsAt;
+            }
+
+            @Override
+            public OffsetDateTime getEndsAt() {
+                return startsAt.plusHours(2);
+            }
+
+            @Override
+            public int getFaceValueCents() {
+                return 2500;
+            }
+
+            @Override
+            public int getTicketsTotal() {
+                return 100;
+            }
+
+            @Override
+            public int getTicketsSold() {
+                return 10;
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.dto.event.EventResponse;
+import com.tickets.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventSearchServiceTest {
+
+    private static final int RANK_CANDIDATES = 500;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new EventSearchService(eventRepository, Duration.ofMinutes(1), 2, RANK_CANDIDATES);
+    }
+
+    @Test
+    void buildsPrefixQueryFromSanitizedTerms() {
+        assertThat(EventSearchService.toPrefixQuery("Winter  Jaz")).isEqualTo("winter & jaz:*");
+        assertThat(EventSearchService.toPrefixQuery("rock'n'roll & (jazz | !blues)"))
+            .isEqualTo("rock & n & roll & jazz & blues:*");
+        assertThat(EventSearchService.toPrefixQuery("Zürich")).isEqualTo("zürich:*");
+        assertThat(EventSearchService.toPrefixQuery("j")).isNull();
+        assertThat(EventSearchService.toPrefixQuery("!!")).isNull();
+        assertThat(EventSearchService.toPrefixQuery(null)).isNull();
+    }
+
+    @Test
+    void shortQueriesSkipTheDatabase() {
+        assertThat(searchService.search(" j ", 10)).isEmpty();
+
+        verify(eventRepository, never()).search(anyString(), any(OffsetDateTime.class), anyInt(), anyInt());
+    }
+
+    @Test
+    void repeatedPrefixIsServedFromCache() {
+        when(eventRepository.search(eq("jaz:*"), any(OffsetDateTime.class), eq(RANK_CANDIDATES), eq(10)))
+            .thenReturn(List.of());
+
+        List<EventResponse> first = searchService.search("Jaz", 10);
+        List<EventResponse> second = searchService.search("jaz", 10);
+
+        assertThat(second).isSameAs(first);
+        verify(eventRepository, times(1)).search(eq("jaz:*"), any(OffsetDateTime.class), eq(RANK_CANDIDATES), eq(10));
+    }
+
+    @Test
+    void leastRecentlyUsedPrefixIsEvicted() {
+        when(eventRepository.search(anyString(), any(OffsetDateTime.class), eq(RANK_CANDIDATES), eq(10)))
+            .thenReturn(List.of());
+
+        searchService.search("ja", 10);
+        searchService.search("ro", 10);
+        searchService.search("ja", 10);
+        searchService.search("bl", 10);
+        searchService.search("ja", 10);
+        searchService.search("ro", 10);
+
+        verify(eventRepository, times(1)).search(eq("ja:*"), any(OffsetDateTime.class), eq(RANK_CANDIDATES), eq(10));
+        verify(eventRepository, times(2)).search(eq("ro:*"), any(OffsetDateTime.class), eq(RANK_CANDIDATES), eq(10));
+    }
+
+    @Test
+    void onlyTheRepositoryCallIsTransactional() throws NoSuchMethodException {
+        Method search = EventSearchService.class.getMethod("search", String.class, int.class);
+        Method query = EventRepository.class.getMethod("search", String.class, OffsetDateTime.class, int.class, int.class);
+
+        assertThat(search.isAnnotationPresent(Transactional.class)).isFalse();
+        assertThat(EventSearchService.class.isAnnotationPresent(Transactional.class)).isFalse();
+        assertThat(query.getAnnotation(Transactional.class).readOnly()).isTrue();
+    }
+
+    @Test
+    void rejectsOutOfRangeLimit() {
+        assertThatThrownBy(() -> searchService.search("jazz", 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search("jazz", EventSearchService.MAX_LIMIT + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
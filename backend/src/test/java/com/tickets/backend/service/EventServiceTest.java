@@ -6,23 +6,30 @@ import com.tickets.backend.model.TicketStatus;
 import com.tickets.backend.model.Venue;
 import com.tickets.backend.repository.EventRepository;
 import com.tickets.backend.repository.TicketRepository;
+import com.tickets.backend.service.model.EventCatalogChanged;
+import com.tickets.backend.service.model.TicketsSold;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +45,17 @@ class EventServiceTest {
     @Mock
     private VenueService venueService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private PurchaseMetrics purchaseMetrics = new PurchaseMetrics(meterRegistry);
+
+    @Spy
+    private LockContentionTracker lockContentionTracker = new LockContentionTracker();
+
     @InjectMocks
     private EventService eventService;
 
@@ -74,6 +92,23 @@ class EventServiceTest {
         assertThat(result.getVenue()).isEqualTo(venue);
         assertThat(result.getTitle()).isEqualTo("My Event");
         verify(eventRepository).save(result);
+        verify(eventPublisher).publishEvent(new EventCatalogChanged(result.getId(), venueId));
+    }
+
+    @Test
+    void markTicketsSoldPublishesSaleRatherThanCatalogChange() {
+        Event event = Event.builder()
+            .id(UUID.randomUUID())
+            .venue(venue)
+            .ticketsSold(3)
+            .build();
+
+        eventService.markTicketsSold(event, 2);
+
+        assertThat(event.getTicketsSold()).isEqualTo(5);
+        assertThat(event.getVersion()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new TicketsSold(event.getId(), venue.getId(), 2));
+        verify(eventPublisher, never()).publishEvent(any(EventCatalogChanged.class));
     }
 
     @Test
@@ -104,13 +139,15 @@ class EventServiceTest {
             .faceValueCents(2500)
             .build();
 
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(eventRepository.findWithVenueById(eventId)).thenReturn(Optional.of(event));
         when(ticketRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         List<Ticket> tickets = eventService.generateTickets(eventId, 3);
 
         assertThat(tickets).hasSize(3);
         assertThat(tickets).allMatch(ticket -> ticket.getStatus() == TicketStatus.AVAILABLE);
+        assertThat(event.getTicketsTotal()).isEqualTo(3);
+        assertThat(event.getVersion()).isEqualTo(1);
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<Ticket>> captor = (ArgumentCaptor<List<Ticket>>) (ArgumentCaptor<?>) ArgumentCaptor.forClass(List.class);
@@ -130,18 +167,27 @@ class EventServiceTest {
             .faceValueCents(3000)
             .build();
 
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(eventRepository.findWithVenueById(eventId)).thenReturn(Optional.of(event));
         var available = List.of(
             Ticket.builder().id(UUID.randomUUID()).event(event).status(TicketStatus.AVAILABLE).code("AAA").build(),
             Ticket.builder().id(UUID.randomUUID()).event(event).status(TicketStatus.AVAILABLE).code("BBB").build()
         );
-        when(ticketRepository.findTicketsForUpdate(eventId, TicketStatus.AVAILABLE, PageRequest.of(0, 2)))
+        when(ticketRepository.findAvailableForUpdate(eventId, PageRequest.of(0, 2)))
             .thenReturn(available);
 
         List<Ticket> reserved = eventService.reserveTickets(eventId, 2);
 
         assertThat(reserved).hasSize(2)
-            .allMatch(ticket -> ticket.getStatus() == TicketStatus.RESERVED);
+            .allMatch(ticket -> ticket.getStatus() == TicketStatus.RESERVED)
+            .allMatch(ticket -> ticket.getReservedAt() != null)
+            .extracting(Ticket::getReservationToken)
+            .doesNotContainNull()
+            .containsOnly(reserved.getFirst().getReservationToken());
         verify(ticketRepository).saveAll(available);
+        long timedNanos = (long) meterRegistry.get(PurchaseMetrics.STAGE_TIMER)
+            .tags("stage", "lock_wait", "outcome", "success")
+            .timer().totalTime(TimeUnit.NANOSECONDS);
+        assertThat(lockContentionTracker.top(1)).singleElement()
+            .satisfies(entry -> assertThat(entry.totalWaitNanos()).isEqualTo(timedNanos));
     }
 }
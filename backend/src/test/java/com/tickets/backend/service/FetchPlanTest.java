@@ -0,0 +1,189 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.dto.event.EventPageResponse;
+import com.tickets.backend.dto.event.EventResponse;
+import com.tickets.backend.dto.event.PurchaserPageResponse;
+import com.tickets.backend.dto.event.PurchaserResponse;
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.Purchase;
+import com.tickets.backend.model.User;
+import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.PurchaseRepository;
+import com.tickets.backend.repository.UserRepository;
+import com.tickets.backend.repository.VenueRepository;
+import com.tickets.backend.service.model.EventCatalogChanged;
+import com.tickets.backend.service.model.EventFilter;
+import com.tickets.backend.util.UuidV7Generator;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs without a surrounding transaction, as controllers do now that open-in-view is off: anything
+ * a response reads must be loaded by the service's own fetch plan. Covers every read path that
+ * renders associated rows: single event, venue list, catalog, seek pages, purchasers and export.
+ */
+@SpringBootTest
+class FetchPlanTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+
+    @Autowired
+    private EventCatalog eventCatalog;
+
+    @Autowired
+    private EventQueryService eventQueryService;
+
+    @Autowired
+    private PurchaserQueryService purchaserQueryService;
+
+    @Autowired
+    private PurchaserExportService purchaserExportService;
+
+    private Venue venue;
+    private Event event;
+    private final List<Purchase> purchases = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        venue = venueRepository.save(Venue.builder()
+            .id(UUID.randomUUID())
+            .name("Fetch Plan Hall")
+            .location("City")
+            .build());
+        event = saveEvent("Show", OffsetDateTime.now().plusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        purchaseRepository.deleteAll(purchases);
+        userRepository.deleteAll(users);
+        eventRepository.deleteAll(eventRepository.findByVenueId(venue.getId()));
+        venueRepository.deleteById(venue.getId());
+    }
+
+    @Test
+    void getByIdLoadsVenue() {
+        Event loaded = eventService.getById(event.getId());
+
+        assertThat(loaded.getVenue().getName()).isEqualTo("Fetch Plan Hall");
+    }
+
+    @Test
+    void listByVenueLoadsVenue() {
+        List<Event> events = eventService.listByVenue(venue.getId());
+
+        assertThat(events).singleElement()
+            .satisfies(loaded -> assertThat(loaded.getVenue().getName()).isEqualTo("Fetch Plan Hall"));
+    }
+
+    @Test
+    void catalogSnapshotResolvesVenueNames() {
+        eventCatalog.onCatalogChanged(new EventCatalogChanged(event.getId(), venue.getId()));
+
+        assertThat(eventCatalog.snapshot().events())
+            .filteredOn(listed -> listed.id().equals(event.getId()))
+            .singleElement()
+            .satisfies(listed -> assertThat(listed.venueName()).isEqualTo("Fetch Plan Hall"));
+    }
+
+    @Test
+    void eventSeekPagesResolveVenueNames() {
+        Event later = saveEvent("Later show", OffsetDateTime.now().plusDays(2));
+        EventFilter filter = new EventFilter(venue.getId(), null, null, null, null, false);
+
+        EventPageResponse first = eventQueryService.page(filter, null, 1);
+        EventPageResponse second = eventQueryService.page(filter, first.nextCursor(), 1);
+
+        assertThat(first.items()).extracting(EventResponse::id).containsExactly(event.getId());
+        assertThat(second.items()).extracting(EventResponse::id).containsExactly(later.getId());
+        assertThat(second.items().getFirst().venueName()).isEqualTo("Fetch Plan Hall");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void purchaserPagesAndExportResolveBuyers() throws Exception {
+        savePurchase("first-buyer");
+        savePurchase("second-buyer");
+
+        PurchaserPageResponse first = purchaserQueryService.page(event.getId(), null, null, 1, false);
+        PurchaserPageResponse second = purchaserQueryService.page(event.getId(), first.nextCursor(), null, 1, false);
+        PurchaserPageResponse filtered = purchaserQueryService.page(event.getId(), null, "second", 10, false);
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        purchaserExportService.writeCsv(event.getId(), csv);
+
+        assertThat(first.items()).extracting(PurchaserResponse::displayName).containsExactly("first-buyer");
+        assertThat(second.items()).extracting(PurchaserResponse::displayName).containsExactly("second-buyer");
+        assertThat(filtered.items()).extracting(PurchaserResponse::displayName).containsExactly("second-buyer");
+        assertThat(csv.toString(StandardCharsets.UTF_8))
+            .contains(users.getFirst().getEmail())
+            .contains(users.getLast().getEmail());
+    }
+
+    @Test
+    void venueIsNotFetchedUnlessRequested() {
+        Event loaded = eventRepository.findById(event.getId()).orElseThrow();
+
+        assertThat(loaded.getVenue().getId()).isEqualTo(venue.getId());
+        assertThatThrownBy(() -> loaded.getVenue().getName()).isInstanceOf(LazyInitializationException.class);
+    }
+
+    private Event saveEvent(String title, OffsetDateTime startsAt) {
+        return eventRepository.save(Event.builder()
+            .id(UUID.randomUUID())
+            .venue(venue)
+            .title(title)
+            .startsAt(startsAt)
+            .endsAt(startsAt.plusHours(2))
+            .faceValueCents(1000)
+            .build());
+    }
+
+    private void savePurchase(String buyer) {
+        User user = userRepository.save(User.builder()
+            .id(UUID.randomUUID())
+            .email(buyer + "-" + UUID.randomUUID() + "@example.com")
+            .displayName(buyer)
+            .build());
+        users.add(user);
+        purchases.add(purchaseRepository.save(Purchase.builder()
+            .id(UuidV7Generator.generate())
+            .event(event)
+            .user(user)
+            .quantity(1)
+            .totalAmountCents(1000)
+            .paymentReference("ref-" + buyer)
+            .idempotencyKey("key-" + buyer)
+            .createdAt(Instant.now().plusMillis(purchases.size()))
+            .build()));
+    }
+}
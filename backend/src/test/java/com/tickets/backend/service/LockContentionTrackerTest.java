@@ -0,0 +1,43 @@
+package com.tickets.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockContentionTrackerTest {
+
+    private final LockContentionTracker tracker = new LockContentionTracker();
+
+    @Test
+    void ranksEventsByTotalWait() {
+        UUID quiet = UUID.randomUUID();
+        UUID hot = UUID.randomUUID();
+
+        tracker.add(quiet, 1_000);
+        tracker.add(hot, 5_000_000);
+        tracker.add(hot, 3_000_000);
+
+        List<LockContentionTracker.Entry> top = tracker.top(10);
+        assertThat(top).extracting(LockContentionTracker.Entry::eventId).containsExactly(hot, quiet);
+        assertThat(top.getFirst().acquisitions()).isEqualTo(2);
+        assertThat(top.getFirst().totalWaitNanos()).isEqualTo(8_000_000);
+        assertThat(top.getFirst().maxWaitNanos()).isEqualTo(5_000_000);
+    }
+
+    @Test
+    void keepsPreviousWindowUntilItRollsOffTwice() {
+        UUID eventId = UUID.randomUUID();
+        tracker.add(eventId, 1_000);
+
+        tracker.rotate();
+        tracker.add(eventId, 1_000);
+        assertThat(tracker.top(1).getFirst().acquisitions()).isEqualTo(2);
+
+        tracker.rotate();
+        tracker.rotate();
+        assertThat(tracker.top(1)).isEmpty();
+    }
+}
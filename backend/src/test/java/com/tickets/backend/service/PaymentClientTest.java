@@ -6,9 +6,11 @@ import com.tickets.backend.dto.payment.PaymentResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,7 +33,7 @@ class PaymentClientTest {
         RestClient.Builder restClientBuilder = RestClient.builder().baseUrl(BASE_URL);
         server = MockRestServiceServer.bindTo(restClientBuilder).ignoreExpectOrder(true).build();
         RestClient restClient = restClientBuilder.build();
-        paymentClient = new PaymentClient(restClient, BASE_URL);
+        paymentClient = new PaymentClient(restClient, BASE_URL, Duration.ofMinutes(1));
         objectMapper = new ObjectMapper();
     }
 
@@ -58,6 +60,18 @@ class PaymentClientTest {
         assertThat(response.reference()).startsWith("offline-");
     }
 
+    @Test
+    void fallbackWarningsAreSampledWithinTheInterval() {
+        server.expect(ExpectedCount.times(3), requestTo(BASE_URL + "/api/payments"))
+            .andRespond(withServerError());
+
+        paymentClient.charge(sampleRequest());
+        paymentClient.charge(sampleRequest());
+        paymentClient.charge(sampleRequest());
+
+        assertThat(paymentClient.suppressedWarnings()).isEqualTo(2);
+    }
+
     private PaymentRequest sampleRequest() {
         return new PaymentRequest(
             UUID.randomUUID(),
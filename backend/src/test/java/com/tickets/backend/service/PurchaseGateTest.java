@@ -0,0 +1,43 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.service.exception.PurchasesSuspendedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PurchaseGateTest {
+
+    private final PurchaseGate gate = new PurchaseGate();
+
+    @Test
+    void closedGateRefusesNewPurchasesButWaitsForAdmittedOnes() throws Exception {
+        CountDownLatch admitted = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> purchase = CompletableFuture.runAsync(() -> {
+            try (PurchaseGate.Permit ignored = gate.enter()) {
+                admitted.countDown();
+                finish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        gate.close();
+
+        assertThatThrownBy(gate::enter).isInstanceOf(PurchasesSuspendedException.class);
+        assertThat(gate.inFlight()).isEqualTo(1);
+        assertThat(gate.awaitDrained(Duration.ofMillis(50))).isFalse();
+
+        finish.countDown();
+        assertThat(gate.awaitDrained(Duration.ofSeconds(5))).isTrue();
+        purchase.get(5, TimeUnit.SECONDS);
+        assertThat(gate.inFlight()).isZero();
+    }
+}
@@ -9,13 +9,18 @@ import com.tickets.backend.model.TicketStatus;
 import com.tickets.backend.model.User;
 import com.tickets.backend.repository.PurchaseRepository;
 import com.tickets.backend.repository.TicketRepository;
+import com.tickets.backend.service.model.CartItem;
+import com.tickets.backend.service.model.CheckoutResult;
 import com.tickets.backend.service.model.PurchaseResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
@@ -26,9 +31,14 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +59,14 @@ class PurchaseServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private PurchaseMetrics purchaseMetrics = new PurchaseMetrics(meterRegistry);
+
     @InjectMocks
     private PurchaseService purchaseService;
 
@@ -103,6 +121,9 @@ class PurchaseServiceTest {
         verify(purchaseRepository).save(purchaseCaptor.capture());
         assertThat(purchaseCaptor.getValue().getPaymentReference()).isEqualTo("ref-1");
         verify(auditService).log(eq(user.getEmail()), eq("PURCHASE_CONFIRMED"), eq("EVENT"), eq(eventId), eq("quantity=2"));
+        verify(salesRollupService).recordPurchase(purchaseCaptor.getValue());
+        assertThat(stageCount("sales_rollup", "success")).isEqualTo(1);
+        assertThat(stageCount("audit", "success")).isEqualTo(1);
     }
 
     @Test
@@ -127,6 +148,153 @@ class PurchaseServiceTest {
         verify(ticketRepository).saveAll(reserved);
     }
 
+    @Test
+    void purchaseTicketsRecordsStageTimersByOutcome() {
+        UUID eventId = event.getId();
+        when(eventService.getById(eventId)).thenReturn(event);
+        when(eventService.reserveTickets(eventId, 1)).thenReturn(List.of(ticket("A")));
+        when(purchaseRepository.findByEventIdAndIdempotencyKey(eventId, "id-key"))
+            .thenReturn(Optional.empty());
+        when(paymentClient.charge(any(PaymentRequest.class)))
+            .thenThrow(new IllegalStateException("Payment service unavailable"));
+
+        assertThatThrownBy(() -> purchaseService.purchaseTickets(user, eventId, 1, "token", "id-key"))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(stageCount("idempotency_lookup", "success")).isEqualTo(1);
+        assertThat(stageCount("reserve", "success")).isEqualTo(1);
+        assertThat(stageCount("payment", "error")).isEqualTo(1);
+        assertThat(stageCount("ticket_save", "success")).isZero();
+    }
+
+    @Test
+    void checkoutReservesInEventIdOrderAndChargesOnce() {
+        Event other = Event.builder()
+            .id(UUID.randomUUID())
+            .venue(VenueServiceTestFixtures.venue())
+            .title("Other")
+            .faceValueCents(2000)
+            .build();
+        Event first = event.getId().compareTo(other.getId()) < 0 ? event : other;
+        Event second = first == event ? other : event;
+        when(purchaseRepository.findByUserIdAndIdempotencyKey(user.getId(), "cart-key")).thenReturn(List.of());
+        when(eventService.getAllById(any())).thenReturn(List.of(event, other));
+        when(eventService.reserveTickets(event.getId(), 2)).thenReturn(List.of(ticket("A"), ticket("B")));
+        when(eventService.reserveTickets(other.getId(), 1)).thenReturn(List.of(ticket("C")));
+        when(paymentClient.charge(any(PaymentRequest.class))).thenReturn(PaymentResponse.success("ref-cart"));
+
+        CheckoutResult result = purchaseService.checkout(
+            user,
+            List.of(new CartItem(other.getId(), 1), new CartItem(event.getId(), 1), new CartItem(event.getId(), 1)),
+            "token",
+            "cart-key"
+        );
+
+        InOrder lockOrder = inOrder(eventService);
+        lockOrder.verify(eventService).reserveTickets(eq(first.getId()), anyInt());
+        lockOrder.verify(eventService).reserveTickets(eq(second.getId()), anyInt());
+        ArgumentCaptor<PaymentRequest> charge = ArgumentCaptor.forClass(PaymentRequest.class);
+        verify(paymentClient, times(1)).charge(charge.capture());
+        assertThat(charge.getValue().amountCents()).isEqualTo(2 * 5000 + 2000);
+        assertThat(charge.getValue().quantity()).isEqualTo(3);
+        assertThat(result.paymentReference()).isEqualTo("ref-cart");
+        assertThat(result.totalAmountCents()).isEqualTo(12000);
+        assertThat(result.purchases()).hasSize(2);
+        verify(purchaseRepository, times(1)).saveAll(any());
+        verify(ticketRepository, times(1)).saveAll(any());
+        verify(auditService, times(1)).log(eq("buyer@example.com"), eq("CART_PURCHASE_CONFIRMED"), eq("PAYMENT"),
+            any(UUID.class), any(String.class));
+    }
+
+    @Test
+    void checkoutReleasesEveryReservationWhenPaymentFails() {
+        Event other = Event.builder()
+            .id(UUID.randomUUID())
+            .venue(VenueServiceTestFixtures.venue())
+            .title("Other")
+            .faceValueCents(2000)
+            .build();
+        Ticket a = ticket("A");
+        Ticket c = ticket("C");
+        a.setStatus(TicketStatus.RESERVED);
+        c.setStatus(TicketStatus.RESERVED);
+        when(purchaseRepository.findByUserIdAndIdempotencyKey(user.getId(), "cart-key")).thenReturn(List.of());
+        when(eventService.getAllById(any())).thenReturn(List.of(event, other));
+        when(eventService.reserveTickets(event.getId(), 1)).thenReturn(List.of(a));
+        when(eventService.reserveTickets(other.getId(), 1)).thenReturn(List.of(c));
+        when(paymentClient.charge(any(PaymentRequest.class))).thenReturn(PaymentResponse.failure("declined"));
+
+        assertThatThrownBy(() -> purchaseService.checkout(
+            user,
+            List.of(new CartItem(event.getId(), 1), new CartItem(other.getId(), 1)),
+            "token",
+            "cart-key"
+        )).isInstanceOf(IllegalStateException.class);
+
+        assertThat(a.getStatus()).isEqualTo(TicketStatus.AVAILABLE);
+        assertThat(c.getStatus()).isEqualTo(TicketStatus.AVAILABLE);
+        verify(purchaseRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void checkoutReplaysExistingOrderForSameIdempotencyKey() {
+        Purchase existing = Purchase.builder()
+            .id(UUID.randomUUID())
+            .event(event)
+            .user(user)
+            .quantity(1)
+            .totalAmountCents(5000)
+            .paymentReference("ref-old")
+            .idempotencyKey("cart-key")
+            .build();
+        Ticket sold = ticket("A");
+        sold.setPurchase(existing);
+        when(purchaseRepository.findByUserIdAndIdempotencyKey(user.getId(), "cart-key")).thenReturn(List.of(existing));
+        when(ticketRepository.findByPurchaseIdIn(List.of(existing.getId()))).thenReturn(List.of(sold));
+
+        CheckoutResult result = purchaseService.checkout(
+            user,
+            List.of(new CartItem(event.getId(), 1)),
+            "token",
+            "cart-key"
+        );
+
+        assertThat(result.paymentReference()).isEqualTo("ref-old");
+        assertThat(result.purchases().getFirst().tickets()).containsExactly(sold);
+        verifyNoInteractions(paymentClient);
+    }
+
+    @Test
+    void checkoutRejectsReusedIdempotencyKeyForDifferentCart() {
+        Purchase existing = Purchase.builder()
+            .id(UUID.randomUUID())
+            .event(event)
+            .user(user)
+            .quantity(1)
+            .totalAmountCents(5000)
+            .paymentReference("ref-old")
+            .idempotencyKey("cart-key")
+            .build();
+        when(purchaseRepository.findByUserIdAndIdempotencyKey(user.getId(), "cart-key")).thenReturn(List.of(existing));
+
+        assertThatThrownBy(() -> purchaseService.checkout(
+            user,
+            List.of(new CartItem(event.getId(), 2)),
+            "token",
+            "cart-key"
+        ))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("different cart");
+        verifyNoInteractions(paymentClient);
+        verify(ticketRepository, never()).findByPurchaseIdIn(any());
+    }
+
+    @Test
+    void checkoutRejectsEmptyCart() {
+        assertThatThrownBy(() -> purchaseService.checkout(user, List.of(), "token", "cart-key"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private Ticket ticket(String code) {
         return Ticket.builder()
             .id(UUID.randomUUID())
@@ -136,6 +304,14 @@ class PurchaseServiceTest {
             .build();
     }
 
+    private long stageCount(String stage, String outcome) {
+        return meterRegistry.get(PurchaseMetrics.STAGE_TIMER)
+            .tag("stage", stage)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+
     private static final class VenueServiceTestFixtures {
         private static final java.util.concurrent.atomic.AtomicInteger COUNTER = new java.util.concurrent.atomic.AtomicInteger(1);
 
@@ -150,4 +326,3 @@ class PurchaseServiceTest {
         }
     }
 }
-
@@ -0,0 +1,173 @@
+package com.tickets.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickets.backend.repository.PurchaseRepository;
+import com.tickets.backend.repository.projection.PurchaserView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaserExportServiceTest {
+
+    private static final Instant PURCHASED_AT = Instant.parse("2026-05-01T10:15:30Z");
+
+    @Mock
+    private PurchaseRepository purchaseRepository;
+
+    private PurchaserExportService exportService;
+    private ObjectMapper objectMapper;
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        exportService = new PurchaserExportService(purchaseRepository, objectMapper);
+        eventId = UUID.randomUUID();
+    }
+
+    @Test
+    void writeCsvEscapesDisplayNames() throws Exception {
+        when(purchaseRepository.streamPurchasers(eventId)).thenReturn(Stream.of(
+            new Row("role_admin@example.com", "Admin, \"Jazz\""),
+            new Row("role_manager@example.com", null),
+            new Row("role_user@example.com", "Plain")
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeCsv(eventId, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+            .startsWith(PurchaserExportService.CSV_HEADER)
+            .contains(",\"Admin, \"\"Jazz\"\"\",")
+            .contains("role_manager@example.com,,1,3500")
+            .contains("role_user@example.com,Plain,1,3500," + PURCHASED_AT);
+    }
+
+    @Test
+    void writeNdjsonProducesOneObjectPerLine() throws Exception {
+        when(purchaseRepository.streamPurchasers(eventId)).thenReturn(Stream.of(
+            new Row("a@example.com", "A"),
+            new Row("b@example.com", null)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeNdjson(eventId, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(first.get("email").asText()).isEqualTo("a@example.com");
+        assertThat(second.get("purchasedAt").asText()).isEqualTo(PURCHASED_AT.toString());
+    }
+
+    @Test
+    void writeCsvFlushesRowsToTheStreamAsTheCursorAdvances() throws Exception {
+        int purchasers = 10_000;
+        CountingOutputStream out = new CountingOutputStream();
+        AtomicLong bytesBeforeLastRow = new AtomicLong();
+        Stream<PurchaserView> rows = IntStream.range(0, purchasers)
+            .mapToObj(i -> {
+                if (i == purchasers - 1) {
+                    bytesBeforeLastRow.set(out.count);
+                }
+                return (PurchaserView) new Row("buyer" + i + "@example.com", "Buyer " + i);
+            });
+        when(purchaseRepository.streamPurchasers(eventId)).thenReturn(rows);
+
+        exportService.writeCsv(eventId, out);
+
+        assertThat(out.count).isGreaterThan((long) purchasers * 40);
+        assertThat(bytesBeforeLastRow.get()).isGreaterThan(out.count - 2L * 8192);
+    }
+
+    @Test
+    void purchaserCursorIsReadOnlyWithABoundedFetchSize() throws Exception {
+        Method stream = PurchaseRepository.class.getMethod("streamPurchasers", UUID.class);
+        Map<String, String> hints = Arrays.stream(stream.getAnnotation(QueryHints.class).value())
+            .collect(Collectors.toMap(QueryHint::name, QueryHint::value));
+
+        assertThat(hints)
+            .containsEntry(HibernateHints.HINT_FETCH_SIZE, "500")
+            .containsEntry(HibernateHints.HINT_READ_ONLY, "true");
+        for (String export : List.of("writeCsv", "writeNdjson")) {
+            Transactional transactional = PurchaserExportService.class
+                .getMethod(export, UUID.class, OutputStream.class)
+                .getAnnotation(Transactional.class);
+            assertThat(transactional.readOnly()).as(export).isTrue();
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    private record Row(String email, String displayName) implements PurchaserView {
+
+        @Override
+        public UUID getId() {
+            return UUID.nameUUIDFromBytes(email.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        @Override
+        public int getQuantity() {
+            return 1;
+        }
+
+        @Override
+        public int getTotalAmountCents() {
+            return 3500;
+        }
+
+        @Override
+        public Instant getCreatedAt() {
+            return PURCHASED_AT;
+        }
+    }
+}
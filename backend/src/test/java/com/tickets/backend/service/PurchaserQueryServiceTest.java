@@ -0,0 +1,90 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.dto.event.PurchaserPageResponse;
+import com.tickets.backend.model.EventSalesRollup;
+import com.tickets.backend.repository.PurchaseRepository;
+import com.tickets.backend.repository.projection.PurchaserView;
+import com.tickets.backend.service.model.PurchaserCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaserQueryServiceTest {
+
+    @Mock
+    private PurchaseRepository purchaseRepository;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @InjectMocks
+    private PurchaserQueryService purchaserQueryService;
+
+    private final UUID eventId = UUID.randomUUID();
+
+    @Test
+    void firstPageSeeksFromStartAndReturnsNextCursor() {
+        PurchaserView a = view("a@example.com", Instant.parse("2026-01-01T10:00:00Z"));
+        PurchaserView b = view("b@example.com", Instant.parse("2026-01-01T10:05:00Z"));
+        PurchaserView c = view("c@example.com", Instant.parse("2026-01-01T10:10:00Z"));
+        when(purchaseRepository.findPurchasersAfter(eventId, PurchaserCursor.START.createdAt(),
+            PurchaserCursor.START.id(), PageRequest.of(0, 3))).thenReturn(List.of(a, b, c));
+        when(salesRollupService.getRollup(eventId)).thenReturn(EventSalesRollup.builder()
+            .eventId(eventId)
+            .purchaseCount(3)
+            .build());
+
+        PurchaserPageResponse page = purchaserQueryService.page(eventId, null, null, 2, true);
+
+        assertThat(page.items()).extracting("email").containsExactly("a@example.com", "b@example.com");
+        assertThat(PurchaserCursor.decode(page.nextCursor())).isEqualTo(new PurchaserCursor(b.getCreatedAt(), b.getId()));
+        assertThat(page.totalCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void emailFilterUsesEscapedPrefixAndSkipsTotal() {
+        PurchaserCursor cursor = new PurchaserCursor(Instant.parse("2026-01-01T10:00:00Z"), UUID.randomUUID());
+        when(purchaseRepository.findPurchasersByEmailAfter(eventId, "jo\\_e%", cursor.createdAt(), cursor.id(),
+            PageRequest.of(0, 11))).thenReturn(List.of());
+
+        PurchaserPageResponse page = purchaserQueryService.page(eventId, cursor.encode(), " Jo_E ", 10, true);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.totalCount()).isNull();
+        verifyNoInteractions(salesRollupService);
+    }
+
+    @Test
+    void pageRejectsInvalidCursorAndLimit() {
+        assertThatThrownBy(() -> purchaserQueryService.page(eventId, "not-a-cursor", null, 10, false))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> purchaserQueryService.page(eventId, null, null, 0, false))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PurchaserView view(String email, Instant createdAt) {
+        UUID id = UUID.randomUUID();
+        return new PurchaserView() {
+            public UUID getId() { return id; }
+            public String getEmail() { return email; }
+            public String getDisplayName() { return null; }
+            public int getQuantity() { return 1; }
+            public int getTotalAmountCents() { return 1000; }
+            public Instant getCreatedAt() { return createdAt; }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.repository.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationRecoveryTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void startupReleasesWithTheSweepCutoffAndCountsUnderStartup() {
+        ReservationSweeper sweeper = new ReservationSweeper(ticketRepository, registry, true, Duration.ofMinutes(5), 50, 20);
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        when(ticketRepository.releaseExpiredReservations(cutoff.capture(), eq(50))).thenReturn(3);
+        Instant before = Instant.now().minus(Duration.ofMinutes(5));
+
+        new ReservationRecovery(sweeper, registry, true).run(null);
+
+        assertThat(cutoff.getValue()).isBetween(before, Instant.now().minus(Duration.ofMinutes(5)));
+        assertThat(registry.get(ReservationSweeper.RELEASED_COUNTER).tag("reason", "startup").counter().count())
+            .isEqualTo(3);
+        assertThat(registry.get(ReservationSweeper.RELEASED_COUNTER).tag("reason", "expired").counter().count())
+            .isZero();
+    }
+
+    @Test
+    void disabledSweepSkipsStartupRelease() {
+        ReservationSweeper sweeper = new ReservationSweeper(ticketRepository, registry, false, Duration.ofMinutes(5), 50, 20);
+
+        new ReservationRecovery(sweeper, registry, false).run(null);
+
+        verifyNoInteractions(ticketRepository);
+    }
+}
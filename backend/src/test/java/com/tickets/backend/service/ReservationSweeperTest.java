@@ -0,0 +1,69 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.repository.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationSweeperTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void releasesInBatchesUntilAShortBatch() {
+        ReservationSweeper sweeper = sweeper(true, 3);
+        Instant cutoff = Instant.now();
+        when(ticketRepository.releaseExpiredReservations(cutoff, 2)).thenReturn(2, 2, 1);
+
+        assertThat(sweeper.releaseExpired(cutoff)).isEqualTo(5);
+
+        verify(ticketRepository, times(3)).releaseExpiredReservations(cutoff, 2);
+        assertThat(registry.get(ReservationSweeper.RELEASED_COUNTER).tag("reason", "expired").counter().count())
+            .isEqualTo(5);
+    }
+
+    @Test
+    void stopsAfterTheBatchLimitEvenWhenMoreRemain() {
+        ReservationSweeper sweeper = sweeper(true, 2);
+        when(ticketRepository.releaseExpiredReservations(any(Instant.class), eq(2))).thenReturn(2);
+
+        sweeper.sweep();
+
+        verify(ticketRepository, times(2)).releaseExpiredReservations(any(Instant.class), eq(2));
+        assertThat(registry.get("tickets.reservations.sweep").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void disabledSweeperDoesNothing() {
+        sweeper(false, 2).sweep();
+
+        verifyNoInteractions(ticketRepository);
+    }
+
+    private ReservationSweeper sweeper(boolean enabled, int maxBatches) {
+        return new ReservationSweeper(ticketRepository, registry, enabled, Duration.ofMinutes(5), 2, maxBatches);
+    }
+}
@@ -0,0 +1,59 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.Venue;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceEtagsTest {
+
+    private static final OffsetDateTime STARTS_AT = OffsetDateTime.of(2026, 6, 1, 20, 0, 0, 0, ZoneOffset.UTC);
+
+    private final ResourceEtags etags = new ResourceEtags();
+    private final Venue venue = Venue.builder().id(UUID.randomUUID()).name("Hall").location("City").build();
+
+    @Test
+    void loadedEventMatchesTheTagOfItsStoredVersion() {
+        Event event = event();
+        event.markChanged();
+        venue.setVersion(2);
+
+        assertThat(etags.of(event)).isEqualTo(etags.of(3L)).isEqualTo("\"3\"");
+    }
+
+    @Test
+    void everyChangeToAnEventChangesItsTag() {
+        Event event = event();
+        String before = etags.of(event);
+
+        event.setTicketsSold(1);
+        event.markChanged();
+
+        assertThat(etags.of(event)).isNotEqualTo(before);
+    }
+
+    @Test
+    void contentTagsAreStableAndQuoted() {
+        byte[] json = "[{\"title\":\"Concert\"}]".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(ResourceEtags.of(json)).isEqualTo(ResourceEtags.of(json.clone())).startsWith("\"").endsWith("\"");
+    }
+
+    private Event event() {
+        return Event.builder()
+            .id(UUID.randomUUID())
+            .venue(venue)
+            .title("Concert")
+            .startsAt(STARTS_AT)
+            .endsAt(STARTS_AT.plusHours(2))
+            .faceValueCents(3500)
+            .ticketsTotal(100)
+            .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.EventSalesRollup;
+import com.tickets.backend.model.Purchase;
+import com.tickets.backend.repository.EventSalesHourlyRepository;
+import com.tickets.backend.repository.EventSalesRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupServiceTest {
+
+    @Mock
+    private EventSalesRollupRepository rollupRepository;
+
+    @Mock
+    private EventSalesHourlyRepository hourlyRepository;
+
+    @InjectMocks
+    private SalesRollupService salesRollupService;
+
+    @Test
+    void recordPurchaseIncrementsTotalsAndHourlyBucket() {
+        UUID eventId = UUID.randomUUID();
+        Purchase purchase = Purchase.builder()
+            .id(UUID.randomUUID())
+            .event(Event.builder().id(eventId).build())
+            .quantity(3)
+            .totalAmountCents(4500)
+            .createdAt(Instant.parse("2026-03-01T18:42:10Z"))
+            .build();
+
+        salesRollupService.recordPurchase(purchase);
+
+        verify(rollupRepository).increment(eq(eventId), eq(3), eq(4500L), any(Instant.class));
+        verify(hourlyRepository).increment(eventId, Instant.parse("2026-03-01T18:00:00Z"), 3, 4500L);
+    }
+
+    @Test
+    void getRollupDefaultsToEmptyTotals() {
+        UUID eventId = UUID.randomUUID();
+        when(rollupRepository.findById(eventId)).thenReturn(Optional.empty());
+
+        EventSalesRollup rollup = salesRollupService.getRollup(eventId);
+
+        assertThat(rollup.getEventId()).isEqualTo(eventId);
+        assertThat(rollup.getRevenueCents()).isZero();
+    }
+
+    @Test
+    void rebuildLocksBeforeReplacingRows() {
+        when(rollupRepository.rebuildFromPurchases()).thenReturn(4);
+
+        int rebuilt = salesRollupService.rebuild();
+
+        assertThat(rebuilt).isEqualTo(4);
+        InOrder order = inOrder(rollupRepository, hourlyRepository);
+        order.verify(rollupRepository).lockForRebuild();
+        order.verify(hourlyRepository).deleteAllRows();
+        order.verify(rollupRepository).deleteAllRows();
+        order.verify(rollupRepository).rebuildFromPurchases();
+        order.verify(hourlyRepository).rebuildFromPurchases();
+    }
+}
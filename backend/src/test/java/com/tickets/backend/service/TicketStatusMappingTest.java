@@ -0,0 +1,86 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.Ticket;
+import com.tickets.backend.model.TicketStatus;
+import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.TicketRepository;
+import com.tickets.backend.repository.VenueRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The partial indexes on {@code tickets} are declared against the smallint status codes, so the
+ * mapping must write exactly those codes and the reservation query must still select by them.
+ */
+@SpringBootTest
+@Transactional
+class TicketStatusMappingTest {
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void statusIsStoredAsItsCodeAndReservationReadsAvailableRowsOnly() {
+        Venue venue = venueRepository.save(Venue.builder().id(UUID.randomUUID()).name("Codes Hall").location("City").build());
+        Event event = eventRepository.save(Event.builder()
+            .id(UUID.randomUUID())
+            .venue(venue)
+            .title("Codes")
+            .startsAt(OffsetDateTime.now().plusDays(1))
+            .endsAt(OffsetDateTime.now().plusDays(1).plusHours(2))
+            .faceValueCents(1000)
+            .build());
+        Instant now = Instant.now();
+        Ticket sold = ticket(event, TicketStatus.SOLD, now.minusSeconds(30), "CODE-S");
+        Ticket reserved = ticket(event, TicketStatus.RESERVED, now.minusSeconds(20), "CODE-R");
+        Ticket available = ticket(event, TicketStatus.AVAILABLE, now.minusSeconds(10), "CODE-A");
+        ticketRepository.saveAll(List.of(sold, reserved, available));
+        entityManager.flush();
+
+        for (Ticket ticket : List.of(sold, reserved, available)) {
+            Integer code = jdbcTemplate.queryForObject("select status from tickets where id = ?", Integer.class, ticket.getId());
+            assertThat(code).isEqualTo((int) ticket.getStatus().code());
+        }
+        entityManager.clear();
+
+        assertThat(ticketRepository.findAvailableForUpdate(event.getId(), PageRequest.of(0, 10)))
+            .extracting(Ticket::getId)
+            .containsExactly(available.getId());
+    }
+
+    private static Ticket ticket(Event event, TicketStatus status, Instant createdAt, String code) {
+        return Ticket.builder()
+            .id(UUID.randomUUID())
+            .event(event)
+            .status(status)
+            .createdAt(createdAt)
+            .code(code)
+            .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.tickets.backend.service;
+
+import com.tickets.backend.dto.payment.PaymentRequest;
+import com.tickets.backend.dto.payment.PaymentResponse;
+import com.tickets.backend.model.Event;
+import com.tickets.backend.model.Ticket;
+import com.tickets.backend.model.User;
+import com.tickets.backend.model.Venue;
+import com.tickets.backend.repository.EventRepository;
+import com.tickets.backend.repository.UserRepository;
+import com.tickets.backend.repository.VenueRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Guards the write path against regressions to per-row statements: new entities must be
+ * persisted without a preceding SELECT and rows must be flushed in JDBC batches.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class WritePathStatementCountTest {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private PurchaseService purchaseService;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private PaymentClient paymentClient;
+
+    @MockitoBean
+    private SalesRollupService salesRollupService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        when(paymentClient.charge(any(PaymentRequest.class))).thenReturn(PaymentResponse.success("ref"));
+    }
+
+    @Test
+    void generatingTicketsInsertsInBatchesWithoutSelects() {
+        Event event = seedEvent();
+
+        int quantity = 3 * BATCH_SIZE;
+        measure(() -> eventService.generateTickets(event.getId(), quantity));
+
+        assertThat(statistics.getEntityStatistics(Ticket.class.getName()).getInsertCount()).isEqualTo(quantity);
+        assertThat(statistics.getEntityStatistics(Ticket.class.getName()).getLoadCount()).isZero();
+        // event lookup + one insert statement per batch + event counter update
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1 + quantity / BATCH_SIZE + 1);
+    }
+
+    @Test
+    void purchaseStatementCountDoesNotGrowWithQuantity() {
+        Event event = seedEvent();
+        eventService.generateTickets(event.getId(), 40);
+        User buyer = seedUser();
+
+        measure(() -> purchaseService.purchaseTickets(buyer, event.getId(), 2, "tok", "small"));
+        long small = statistics.getPrepareStatementCount();
+
+        measure(() -> purchaseService.purchaseTickets(buyer, event.getId(), 20, "tok", "large"));
+        long large = statistics.getPrepareStatementCount();
+
+        assertThat(large).isEqualTo(small);
+        assertThat(small).isLessThanOrEqualTo(10);
+    }
+
+    private void measure(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        entityManager.flush();
+    }
+
+    private Event seedEvent() {
+        Venue venue = venueRepository.save(Venue.builder()
+            .id(UUID.randomUUID())
+            .name("Venue " + UUID.randomUUID())
+            .location("City")
+            .build());
+        return eventRepository.save(Event.builder()
+            .id(UUID.randomUUID())
+            .venue(venue)
+            .title("Show")
+            .startsAt(OffsetDateTime.now().plusDays(1))
+            .endsAt(OffsetDateTime.now().plusDays(1).plusHours(2))
+            .faceValueCents(1000)
+            .build());
+    }
+
+    private User seedUser() {
+        return userRepository.save(User.builder()
+            .id(UUID.randomUUID())
+            .email("buyer-" + UUID.randomUUID() + "@example.com")
+            .displayName("Buyer")
+            .build());
+    }
+}
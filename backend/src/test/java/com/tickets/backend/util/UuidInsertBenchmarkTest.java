@@ -0,0 +1,87 @@
+package com.tickets.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts that {@link UuidV7Generator} ids leave a smaller primary-key index than random v4 ids on a
+ * real PostgreSQL. Insert throughput of both runs is logged for comparison but not asserted, since
+ * it varies too much between machines. Skipped unless a database is supplied, e.g.
+ * {@code ./gradlew test --tests '*UuidInsertBenchmarkTest' -Dbenchmark.jdbc-url=jdbc:postgresql://localhost:5432/tickets
+ * -Dbenchmark.user=tickets -Dbenchmark.password=tickets -Dbenchmark.rows=1000000}.
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc-url", matches = ".+")
+class UuidInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidInsertBenchmarkTest.class);
+    private static final int BATCH = 1_000;
+
+    @Test
+    void timeOrderedIdsKeepIndexSmaller() throws SQLException {
+        int rows = Integer.getInteger("benchmark.rows", 500_000);
+        try (Connection connection = DriverManager.getConnection(
+            System.getProperty("benchmark.jdbc-url"),
+            System.getProperty("benchmark.user", "tickets"),
+            System.getProperty("benchmark.password", "tickets"))) {
+            Result v4 = run(connection, "uuid_bench_v4", rows, UUID::randomUUID);
+            Result v7 = run(connection, "uuid_bench_v7", rows, UuidV7Generator::generate);
+
+            log.info("v4: {} rows/s, pk index {} KiB", v4.rowsPerSecond(), v4.indexBytes() / 1024);
+            log.info("v7: {} rows/s, pk index {} KiB", v7.rowsPerSecond(), v7.indexBytes() / 1024);
+            assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+        }
+    }
+
+    private Result run(Connection connection, String table, int rows, Supplier<UUID> ids) throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("drop table if exists " + table);
+            ddl.execute("create table " + table + " (id uuid primary key, payload varchar(32) not null)");
+        }
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        long started = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+            "insert into " + table + " (id, payload) values (?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "row-" + i);
+                insert.addBatch();
+                if ((i + 1) % BATCH == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        long elapsedNanos = Math.max(1, System.nanoTime() - started);
+        long indexBytes;
+        try (Statement query = connection.createStatement();
+             ResultSet size = query.executeQuery("select pg_relation_size('" + table + "_pkey')")) {
+            size.next();
+            indexBytes = size.getLong(1);
+        }
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("drop table " + table);
+        }
+        return new Result(rows * 1_000_000_000L / elapsedNanos, indexBytes);
+    }
+
+    private record Result(long rowsPerSecond, long indexBytes) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.tickets.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void setsVersionVariantAndTimestamp() {
+        UUID generated = UuidV7Generator.generate();
+        UUID fixed = new UuidV7Generator.State().next(1_700_000_000_000L);
+
+        assertThat(generated.version()).isEqualTo(7);
+        assertThat(generated.variant()).isEqualTo(2);
+        assertThat(fixed.version()).isEqualTo(7);
+        assertThat(fixed.variant()).isEqualTo(2);
+        assertThat(fixed.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void idsFromOneThreadAreStrictlyIncreasing() {
+        UUID previous = UuidV7Generator.generate();
+        for (int i = 0; i < 200_000; i++) {
+            UUID next = UuidV7Generator.generate();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    void counterOverflowAndClockStepBackKeepOrder() {
+        UuidV7Generator.State state = new UuidV7Generator.State();
+        UUID previous = state.next(1_000L);
+        for (int i = 0; i < 5_000; i++) {
+            UUID next = state.next(1_000L);
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                .isPositive();
+            previous = next;
+        }
+        UUID afterStepBack = state.next(900L);
+
+        assertThat(previous.getMostSignificantBits() >>> 16).isGreaterThan(1_000L);
+        assertThat(Long.compareUnsigned(afterStepBack.getMostSignificantBits(), previous.getMostSignificantBits()))
+            .isPositive();
+    }
+
+    @Test
+    void concurrentThreadsProduceUniqueIds() throws Exception {
+        Set<UUID> seen = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        seen.add(UuidV7Generator.generate());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(seen).hasSize(8 * 50_000);
+    }
+}